@@ -0,0 +1,43 @@
+package com.vikthorvergara.pulsar.benchmarks;
+
+import com.vikthorvergara.pulsar.messaging.model.TenantEvent;
+import com.vikthorvergara.pulsar.missioncritical.model.Money;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.rpc.model.RpcResponse;
+import com.vikthorvergara.pulsar.taskqueue.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+public class BaseEventBenchmark {
+
+    private static final Money AMOUNT = Money.ofMinor(15_050, "USD");
+
+    @Benchmark
+    public TenantEvent newTenantEvent() {
+        return new TenantEvent("healthcare", "PatientRegistered", "Patient P1 registered");
+    }
+
+    @Benchmark
+    public Task newTask() {
+        return new Task("EMAIL", "Processing EMAIL task #3", 5);
+    }
+
+    @Benchmark
+    public RpcResponse newRpcResponse() {
+        return new RpcResponse("request-1", "Data: [user-info]");
+    }
+
+    @Benchmark
+    public Payment newPayment() {
+        return new Payment("RETAIL-001", "CUST-0001", AMOUNT, "Payment for order #1");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Payment newPaymentContended() {
+        return new Payment("RETAIL-001", "CUST-0001", AMOUNT, "Payment for order #1");
+    }
+}
@@ -0,0 +1,36 @@
+package com.vikthorvergara.pulsar.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.vikthorvergara.pulsar.benchmarks.*";
+
+        new Runner(options(include, Mode.Throughput, TimeUnit.SECONDS)).run();
+        new Runner(options(include, Mode.SampleTime, TimeUnit.MICROSECONDS)).run();
+    }
+
+    private static Options options(String include, Mode mode, TimeUnit timeUnit) {
+        return new OptionsBuilder()
+                .include(include)
+                .mode(mode)
+                .timeUnit(timeUnit)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .jvmArgsAppend("--enable-preview")
+                .addProfiler(GCProfiler.class)
+                .build();
+    }
+}
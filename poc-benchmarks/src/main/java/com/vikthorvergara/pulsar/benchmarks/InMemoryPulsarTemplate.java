@@ -0,0 +1,52 @@
+package com.vikthorvergara.pulsar.benchmarks;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.springframework.pulsar.core.DefaultPulsarProducerFactory;
+import org.springframework.pulsar.core.PulsarTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InMemoryPulsarTemplate<T> extends PulsarTemplate<T> {
+
+    private final Map<String, LongAdder> sentPerTopic = new ConcurrentHashMap<>();
+
+    public InMemoryPulsarTemplate(PulsarClient unconnectedClient) {
+        super(new DefaultPulsarProducerFactory<>(unconnectedClient));
+    }
+
+    public static <T> InMemoryPulsarTemplate<T> create() {
+        try {
+            return new InMemoryPulsarTemplate<>(PulsarClient.builder()
+                    .serviceUrl("pulsar://localhost:6650")
+                    .build());
+        } catch (PulsarClientException e) {
+            throw new IllegalStateException("Unable to build offline Pulsar client", e);
+        }
+    }
+
+    @Override
+    public MessageId send(String topic, T message) {
+        record(topic);
+        return MessageId.earliest;
+    }
+
+    @Override
+    public CompletableFuture<MessageId> sendAsync(String topic, T message) {
+        record(topic);
+        return CompletableFuture.completedFuture(MessageId.earliest);
+    }
+
+    public long sentCount(String topic) {
+        var counter = sentPerTopic.get(topic);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private void record(String topic) {
+        sentPerTopic.computeIfAbsent(topic, t -> new LongAdder()).increment();
+    }
+}
@@ -0,0 +1,75 @@
+package com.vikthorvergara.pulsar.benchmarks;
+
+import com.vikthorvergara.pulsar.common.audit.AuditLog;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.support.SimulatedLatency;
+import com.vikthorvergara.pulsar.missioncritical.consumer.PaymentProcessor;
+import com.vikthorvergara.pulsar.missioncritical.dedup.PaymentDeduplicator;
+import com.vikthorvergara.pulsar.missioncritical.model.Money;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentKey;
+import com.vikthorvergara.pulsar.missioncritical.retry.PaymentRetryScheduler;
+import com.vikthorvergara.pulsar.missioncritical.status.PaymentStatusPublisher;
+import com.vikthorvergara.pulsar.missioncritical.store.PaymentStateStore;
+import com.vikthorvergara.pulsar.missioncritical.validation.AmountLimitRule;
+import com.vikthorvergara.pulsar.missioncritical.validation.ComplianceCheckRule;
+import com.vikthorvergara.pulsar.missioncritical.validation.PartiesRule;
+import com.vikthorvergara.pulsar.missioncritical.validation.PaymentValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@State(Scope.Benchmark)
+public class PaymentProcessingBenchmark {
+
+    @Param({"75.25", "1250.00", "15000.00"})
+    public String amount;
+
+    private AuditLog auditLog;
+    private PaymentStateStore stateStore;
+    private PaymentProcessor paymentProcessor;
+    private Money paymentAmount;
+
+    @Setup
+    public void setup() throws IOException {
+        var retryScheduler = new PaymentRetryScheduler(InMemoryPulsarTemplate.create(),
+            Duration.ofSeconds(1), 2.0, Duration.ofSeconds(30), 0.2, PaymentKey.MERCHANT);
+        var deduplicator = new PaymentDeduplicator(1_000_000, Duration.ofMinutes(1), 4, "");
+        var validator = new PaymentValidator(List.of(
+            new AmountLimitRule(10_000),
+            new PartiesRule(),
+            new ComplianceCheckRule(Set.of(), SimulatedLatency.NONE)));
+        var metrics = new EventMetrics(new SimpleMeterRegistry());
+        auditLog = TempAuditLogs.create(metrics);
+        stateStore = new PaymentStateStore(Files.createTempDirectory("poc-payment-store-bench").toString(),
+            DataSize.ofMegabytes(256), 8, Duration.ofDays(7), 1 << 20, Duration.ofSeconds(1), metrics);
+        var statusPublisher = new PaymentStatusPublisher(null, false, metrics);
+        paymentProcessor = new PaymentProcessor(retryScheduler, deduplicator, validator, stateStore, statusPublisher,
+            auditLog, false, Duration.ofSeconds(5), SimulatedLatency.NONE, metrics);
+        paymentAmount = Money.parse(amount, "USD");
+    }
+
+    @Benchmark
+    public Payment processPayment() {
+        var payment = new Payment("RETAIL-001", "CUST-0001", paymentAmount, "Payment for order #1");
+        paymentProcessor.processPayment(payment);
+        return payment;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        stateStore.close();
+        auditLog.close();
+    }
+}
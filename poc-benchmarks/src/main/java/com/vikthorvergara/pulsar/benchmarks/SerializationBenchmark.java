@@ -0,0 +1,124 @@
+package com.vikthorvergara.pulsar.benchmarks;
+
+import com.vikthorvergara.pulsar.common.schema.SchemaFormat;
+import com.vikthorvergara.pulsar.messaging.model.TenantEvent;
+import com.vikthorvergara.pulsar.messaging.schema.TenantEventSchema;
+import com.vikthorvergara.pulsar.missioncritical.model.Money;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.schema.PaymentSchema;
+import com.vikthorvergara.pulsar.rpc.model.RpcRequest;
+import com.vikthorvergara.pulsar.rpc.model.RpcResponse;
+import com.vikthorvergara.pulsar.rpc.schema.RpcRequestSchema;
+import com.vikthorvergara.pulsar.rpc.schema.RpcResponseSchema;
+import com.vikthorvergara.pulsar.taskqueue.model.Task;
+import com.vikthorvergara.pulsar.taskqueue.schema.TaskSchema;
+import org.apache.pulsar.client.api.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    public SchemaFormat format;
+
+    private Schema<TenantEvent> tenantEventSchema;
+    private Schema<Task> taskSchema;
+    private Schema<RpcRequest> rpcRequestSchema;
+    private Schema<RpcResponse> rpcResponseSchema;
+    private Schema<Payment> paymentSchema;
+
+    private TenantEvent tenantEvent;
+    private Task task;
+    private RpcRequest rpcRequest;
+    private RpcResponse rpcResponse;
+    private Payment payment;
+
+    private byte[] tenantEventBytes;
+    private byte[] taskBytes;
+    private byte[] rpcRequestBytes;
+    private byte[] rpcResponseBytes;
+    private byte[] paymentBytes;
+
+    @Setup
+    public void setup() {
+        boolean binary = format == SchemaFormat.BINARY;
+        tenantEventSchema = binary ? new TenantEventSchema() : Schema.JSON(TenantEvent.class);
+        taskSchema = binary ? new TaskSchema() : Schema.JSON(Task.class);
+        rpcRequestSchema = binary ? new RpcRequestSchema() : Schema.JSON(RpcRequest.class);
+        rpcResponseSchema = binary ? new RpcResponseSchema() : Schema.JSON(RpcResponse.class);
+        paymentSchema = binary ? new PaymentSchema() : Schema.JSON(Payment.class);
+
+        tenantEvent = new TenantEvent("finance", "TransactionCreated", "Transaction T1 created for $100");
+        task = new Task("REPORT", "Processing REPORT task #1", 10);
+        String requestId = UUID.randomUUID().toString();
+        rpcRequest = new RpcRequest(requestId, "CALCULATE", "test-data-1",
+            "persistent://public/default/rpc-responses");
+        rpcResponse = new RpcResponse(requestId, "Result: 462");
+        payment = new Payment("RETAIL-001", "CUST-0001", Money.ofMinor(15_050, "USD"), "Payment for order #1");
+        payment.setStatus("PROCESSING");
+        payment.setLastAttemptTimestamp(Instant.now());
+
+        tenantEventBytes = tenantEventSchema.encode(tenantEvent);
+        taskBytes = taskSchema.encode(task);
+        rpcRequestBytes = rpcRequestSchema.encode(rpcRequest);
+        rpcResponseBytes = rpcResponseSchema.encode(rpcResponse);
+        paymentBytes = paymentSchema.encode(payment);
+    }
+
+    @Benchmark
+    public byte[] encodeTenantEvent() {
+        return tenantEventSchema.encode(tenantEvent);
+    }
+
+    @Benchmark
+    public TenantEvent decodeTenantEvent() {
+        return tenantEventSchema.decode(tenantEventBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeTask() {
+        return taskSchema.encode(task);
+    }
+
+    @Benchmark
+    public Task decodeTask() {
+        return taskSchema.decode(taskBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeRpcRequest() {
+        return rpcRequestSchema.encode(rpcRequest);
+    }
+
+    @Benchmark
+    public RpcRequest decodeRpcRequest() {
+        return rpcRequestSchema.decode(rpcRequestBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeRpcResponse() {
+        return rpcResponseSchema.encode(rpcResponse);
+    }
+
+    @Benchmark
+    public RpcResponse decodeRpcResponse() {
+        return rpcResponseSchema.decode(rpcResponseBytes);
+    }
+
+    @Benchmark
+    public byte[] encodePayment() {
+        return paymentSchema.encode(payment);
+    }
+
+    @Benchmark
+    public Payment decodePayment() {
+        return paymentSchema.decode(paymentBytes);
+    }
+}
@@ -0,0 +1,46 @@
+package com.vikthorvergara.pulsar.benchmarks;
+
+import com.vikthorvergara.pulsar.common.audit.AuditLog;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.support.SimulatedLatency;
+import com.vikthorvergara.pulsar.taskqueue.consumer.TaskProcessor;
+import com.vikthorvergara.pulsar.taskqueue.consumer.TaskWorker;
+import com.vikthorvergara.pulsar.taskqueue.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class TaskProcessingBenchmark {
+
+    @Param({"EMAIL", "REPORT", "BACKUP"})
+    public String taskType;
+
+    private AuditLog auditLog;
+    private TaskWorker taskWorker;
+    private String payload;
+
+    @Setup
+    public void setup() {
+        var metrics = new EventMetrics(new SimpleMeterRegistry());
+        auditLog = TempAuditLogs.create(metrics);
+        taskWorker = new TaskWorker(new TaskProcessor(SimulatedLatency.NONE, auditLog, metrics));
+        payload = "Processing " + taskType + " task #1";
+    }
+
+    @Benchmark
+    public Task processTask() {
+        var task = new Task(taskType, payload, 10);
+        taskWorker.processTask(task);
+        return task;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        auditLog.close();
+    }
+}
@@ -0,0 +1,26 @@
+package com.vikthorvergara.pulsar.benchmarks;
+
+import com.vikthorvergara.pulsar.common.audit.AuditLog;
+import com.vikthorvergara.pulsar.common.config.AuditProperties;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+
+public final class TempAuditLogs {
+
+    private TempAuditLogs() {
+    }
+
+    public static AuditLog create(EventMetrics metrics) {
+        try {
+            return new AuditLog(new AuditProperties(Files.createTempDirectory("poc-audit-bench"),
+                    DataSize.ofMegabytes(64), 2, 65536, 256, Duration.ofMillis(5)), metrics);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create benchmark audit log", e);
+        }
+    }
+}
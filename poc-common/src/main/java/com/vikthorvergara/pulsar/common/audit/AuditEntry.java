@@ -0,0 +1,24 @@
+package com.vikthorvergara.pulsar.common.audit;
+
+import java.util.concurrent.CompletableFuture;
+
+final class AuditEntry {
+
+    final long timestampMillis;
+    final String category;
+    final String eventId;
+    final String outcome;
+    final String detail;
+    final CompletableFuture<Long> durable;
+    long sequence;
+
+    AuditEntry(long timestampMillis, String category, String eventId, String outcome, String detail,
+               CompletableFuture<Long> durable) {
+        this.timestampMillis = timestampMillis;
+        this.category = category;
+        this.eventId = eventId;
+        this.outcome = outcome;
+        this.detail = detail;
+        this.durable = durable;
+    }
+}
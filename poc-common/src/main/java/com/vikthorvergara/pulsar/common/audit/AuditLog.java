@@ -0,0 +1,165 @@
+package com.vikthorvergara.pulsar.common.audit;
+
+import com.vikthorvergara.pulsar.common.config.AuditProperties;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class AuditLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long FULL_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditRingBuffer<AuditEntry> ring;
+    private final AuditSegments segments;
+    private final int commitRecords;
+    private final long commitIntervalNanos;
+    private final EventMetrics metrics;
+    private final List<AuditEntry> awaitingCommit = new ArrayList<>();
+    private final Thread writer;
+
+    private volatile boolean running = true;
+    private volatile boolean parked;
+
+    public AuditLog(AuditProperties properties, EventMetrics metrics) throws IOException {
+        this.ring = new AuditRingBuffer<>(properties.bufferCapacity());
+        this.segments = new AuditSegments(properties.directory(),
+            (int) properties.segmentSize().toBytes(), properties.maxSegments());
+        this.commitRecords = Math.max(1, properties.commitRecords());
+        this.commitIntervalNanos = properties.commitInterval().toNanos();
+        this.metrics = metrics;
+        metrics.gauge("poc.audit.backlog", ring::size);
+        metrics.gauge("poc.audit.segments", segments::segmentCount);
+        this.writer = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::runWriter);
+        log.info("Audit log started: directory={}, bufferCapacity={}, commitRecords={}, commitInterval={}",
+            properties.directory(), ring.capacity(), commitRecords, properties.commitInterval());
+    }
+
+    public boolean append(String category, String eventId, String outcome, String detail) {
+        if (offer(new AuditEntry(System.currentTimeMillis(), category, eventId, outcome, detail, null))) {
+            return true;
+        }
+        metrics.increment("poc.audit.dropped", "category", category);
+        return false;
+    }
+
+    public CompletableFuture<Long> appendDurable(String category, String eventId, String outcome, String detail) {
+        var durable = new CompletableFuture<Long>();
+        var entry = new AuditEntry(System.currentTimeMillis(), category, eventId, outcome, detail, durable);
+        while (!offer(entry)) {
+            if (!running) {
+                durable.completeExceptionally(new IllegalStateException("Audit log is closed"));
+                break;
+            }
+            LockSupport.parkNanos(FULL_BACKOFF_NANOS);
+        }
+        return durable;
+    }
+
+    @Override
+    public void close() throws InterruptedException, IOException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join();
+        AuditEntry entry;
+        while ((entry = ring.poll()) != null) {
+            if (entry.durable != null) {
+                entry.durable.completeExceptionally(new IllegalStateException("Audit log is closed"));
+            }
+        }
+        segments.close();
+        log.info("Audit log closed: nextSequence={}", segments.nextSequence());
+    }
+
+    private boolean offer(AuditEntry entry) {
+        if (!running || !ring.offer(entry)) {
+            return false;
+        }
+        if (parked) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    private void runWriter() {
+        int uncommitted = 0;
+        long firstUncommittedAt = 0;
+        while (running || !ring.isEmpty()) {
+            AuditEntry entry = ring.poll();
+            if (entry != null) {
+                write(entry);
+                if (uncommitted++ == 0) {
+                    firstUncommittedAt = System.nanoTime();
+                }
+                if (uncommitted >= commitRecords) {
+                    commit();
+                    uncommitted = 0;
+                }
+                continue;
+            }
+            if (uncommitted == 0) {
+                park(IDLE_PARK_NANOS);
+                continue;
+            }
+            long remaining = firstUncommittedAt + commitIntervalNanos - System.nanoTime();
+            if (remaining > 0) {
+                park(remaining);
+            } else {
+                commit();
+                uncommitted = 0;
+            }
+        }
+        commit();
+    }
+
+    private void write(AuditEntry entry) {
+        try {
+            entry.sequence = segments.append(entry);
+            metrics.increment("poc.audit.records", "category", entry.category);
+            if (entry.durable != null) {
+                awaitingCommit.add(entry);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Audit append failed: category={}, eventId={}, error={}",
+                entry.category, entry.eventId, e.getMessage());
+            metrics.increment("poc.audit.failures", "stage", "append");
+            if (entry.durable != null) {
+                entry.durable.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void commit() {
+        try {
+            segments.force();
+            metrics.increment("poc.audit.commits");
+            for (AuditEntry entry : awaitingCommit) {
+                entry.durable.complete(entry.sequence);
+            }
+        } catch (RuntimeException e) {
+            log.error("Audit commit failed: pending={}, error={}", awaitingCommit.size(), e.getMessage());
+            metrics.increment("poc.audit.failures", "stage", "commit");
+            for (AuditEntry entry : awaitingCommit) {
+                entry.durable.completeExceptionally(e);
+            }
+        }
+        awaitingCommit.clear();
+    }
+
+    private void park(long nanos) {
+        parked = true;
+        if (running && ring.isEmpty()) {
+            LockSupport.parkNanos(this, nanos);
+        }
+        parked = false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.vikthorvergara.pulsar.common.audit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+final class AuditRingBuffer<E> {
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findVarHandle(AuditRingBuffer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int mask;
+    private final long[] sequences;
+    private final Object[] elements;
+    private volatile long tail;
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(2, capacity) - 1));
+        this.mask = size - 1;
+        this.sequences = new long[size];
+        this.elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    boolean offer(E element) {
+        long t = tail;
+        while (true) {
+            int index = (int) t & mask;
+            long diff = (long) SEQUENCES.getAcquire(sequences, index) - t;
+            if (diff == 0) {
+                if (TAIL.compareAndSet(this, t, t + 1)) {
+                    elements[index] = element;
+                    SEQUENCES.setRelease(sequences, index, t + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+            t = tail;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long h = head;
+        int index = (int) h & mask;
+        if ((long) SEQUENCES.getAcquire(sequences, index) != h + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        SEQUENCES.setRelease(sequences, index, h + mask + 1);
+        head = h + 1;
+        return element;
+    }
+
+    boolean isEmpty() {
+        return tail == head;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail - head);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
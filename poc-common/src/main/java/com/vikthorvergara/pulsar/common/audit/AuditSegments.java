@@ -0,0 +1,166 @@
+package com.vikthorvergara.pulsar.common.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+final class AuditSegments implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditSegments.class);
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_FIELD_BYTES = 4096;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private final ByteBuffer scratch;
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int forcedPosition;
+    private long nextSequence;
+
+    AuditSegments(Path directory, int segmentSize, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.scratch = ByteBuffer.allocate(HEADER_BYTES + 16 + 4 * (4 + MAX_FIELD_BYTES));
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(AuditSegments::isSegment).sorted().forEach(segments::addLast);
+        }
+        if (segments.isEmpty()) {
+            openSegment(0);
+        } else {
+            recover(segments.peekLast());
+        }
+    }
+
+    long append(AuditEntry entry) throws IOException {
+        long sequence = nextSequence;
+        scratch.clear().position(HEADER_BYTES);
+        scratch.putLong(sequence);
+        scratch.putLong(entry.timestampMillis);
+        putString(entry.category);
+        putString(entry.eventId);
+        putString(entry.outcome);
+        putString(entry.detail);
+        int bodyLength = scratch.position() - HEADER_BYTES;
+        crc.reset();
+        crc.update(scratch.array(), HEADER_BYTES, bodyLength);
+        scratch.putInt(0, bodyLength).putInt(4, (int) crc.getValue()).flip();
+
+        if (scratch.remaining() > mapped.remaining()) {
+            force();
+            openSegment(sequence);
+        }
+        mapped.put(scratch);
+        nextSequence = sequence + 1;
+        return sequence;
+    }
+
+    void force() {
+        int position = mapped.position();
+        if (position > forcedPosition) {
+            mapped.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    long nextSequence() {
+        return nextSequence;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            scratch.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_FIELD_BYTES);
+        scratch.putInt(length).put(bytes, 0, length);
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        Path path = directory.resolve(PREFIX + String.format("%020d", firstSequence) + SUFFIX);
+        map(path);
+        forcedPosition = 0;
+        nextSequence = firstSequence;
+        segments.addLast(path);
+        while (segments.size() > maxSegments) {
+            Files.deleteIfExists(segments.pollFirst());
+        }
+    }
+
+    private void recover(Path path) throws IOException {
+        map(path);
+        String name = path.getFileName().toString();
+        long sequence = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        int position = 0;
+        while (position + HEADER_BYTES <= mapped.limit()) {
+            int bodyLength = mapped.getInt(position);
+            if (bodyLength <= 0 || position + HEADER_BYTES + bodyLength > mapped.limit()) {
+                break;
+            }
+            crc.reset();
+            crc.update(mapped.slice(position + HEADER_BYTES, bodyLength));
+            if ((int) crc.getValue() != mapped.getInt(position + 4)) {
+                break;
+            }
+            sequence = mapped.getLong(position + HEADER_BYTES) + 1;
+            position += HEADER_BYTES + bodyLength;
+        }
+        if (position + HEADER_BYTES <= mapped.limit() && mapped.getInt(position) != 0) {
+            log.warn("Audit segment has a torn tail, truncating: segment={}, offset={}", path.getFileName(), position);
+            for (int i = position; i < mapped.limit(); i++) {
+                mapped.put(i, (byte) 0);
+            }
+            mapped.force();
+        }
+        mapped.position(position);
+        forcedPosition = position;
+        nextSequence = sequence;
+        log.info("Audit log recovered: segment={}, offset={}, nextSequence={}", path.getFileName(), position, sequence);
+    }
+
+    private void map(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+}
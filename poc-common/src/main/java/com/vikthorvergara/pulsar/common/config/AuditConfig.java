@@ -0,0 +1,21 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import com.vikthorvergara.pulsar.common.audit.AuditLog;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@ConditionalOnProperty(name = "poc.audit.enabled", havingValue = "true")
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    @Bean
+    public AuditLog auditLog(AuditProperties auditProperties, EventMetrics metrics) throws IOException {
+        return new AuditLog(auditProperties, metrics);
+    }
+}
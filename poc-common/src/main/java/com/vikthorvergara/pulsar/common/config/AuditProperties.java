@@ -0,0 +1,18 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "poc.audit")
+public record AuditProperties(
+        @DefaultValue("target/audit") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("8") int maxSegments,
+        @DefaultValue("65536") int bufferCapacity,
+        @DefaultValue("256") int commitRecords,
+        @DefaultValue("5ms") Duration commitInterval) {
+}
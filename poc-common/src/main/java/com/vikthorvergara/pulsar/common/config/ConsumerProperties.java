@@ -0,0 +1,52 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import com.vikthorvergara.pulsar.common.listener.BackpressureMode;
+import com.vikthorvergara.pulsar.common.listener.ConsumerTuning;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "poc.pulsar.consumer")
+public record ConsumerProperties(
+        @DefaultValue("1000") int receiverQueueSize,
+        @DefaultValue("50000") int maxTotalReceiverQueueSizeAcrossPartitions,
+        @DefaultValue("100ms") Duration acknowledgementsGroupTime,
+        @DefaultValue("false") boolean batchIndexAckEnabled,
+        @DefaultValue("none") BackpressureMode backpressure,
+        @DefaultValue("1s") Duration targetQueueTime,
+        @DefaultValue("1") int minReceiverQueueSize,
+        Map<String, Listener> listeners) {
+
+    public ConsumerTuning tuning(String subscriptionName) {
+        Listener override = listeners != null && subscriptionName != null ? listeners.get(subscriptionName) : null;
+        if (override == null) {
+            return new ConsumerTuning(receiverQueueSize, maxTotalReceiverQueueSizeAcrossPartitions,
+                    acknowledgementsGroupTime, batchIndexAckEnabled, backpressure, targetQueueTime,
+                    minReceiverQueueSize);
+        }
+        return new ConsumerTuning(
+                override.receiverQueueSize() != null ? override.receiverQueueSize() : receiverQueueSize,
+                override.maxTotalReceiverQueueSizeAcrossPartitions() != null
+                        ? override.maxTotalReceiverQueueSizeAcrossPartitions()
+                        : maxTotalReceiverQueueSizeAcrossPartitions,
+                override.acknowledgementsGroupTime() != null
+                        ? override.acknowledgementsGroupTime()
+                        : acknowledgementsGroupTime,
+                override.batchIndexAckEnabled() != null ? override.batchIndexAckEnabled() : batchIndexAckEnabled,
+                override.backpressure() != null ? override.backpressure() : backpressure,
+                override.targetQueueTime() != null ? override.targetQueueTime() : targetQueueTime,
+                override.minReceiverQueueSize() != null ? override.minReceiverQueueSize() : minReceiverQueueSize);
+    }
+
+    public record Listener(
+            Integer receiverQueueSize,
+            Integer maxTotalReceiverQueueSizeAcrossPartitions,
+            Duration acknowledgementsGroupTime,
+            Boolean batchIndexAckEnabled,
+            BackpressureMode backpressure,
+            Duration targetQueueTime,
+            Integer minReceiverQueueSize) {
+    }
+}
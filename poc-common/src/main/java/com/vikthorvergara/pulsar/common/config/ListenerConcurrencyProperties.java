@@ -0,0 +1,27 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "poc.pulsar.listener.concurrency")
+public record ListenerConcurrencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1") int minLimit,
+        @DefaultValue("4") int initialLimit,
+        @DefaultValue("32") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("500") int rttWindow,
+        List<String> listeners) {
+
+    public ListenerConcurrencyProperties {
+        listeners = listeners == null ? List.of() : List.copyOf(listeners);
+    }
+
+    public boolean adaptive(String listenerId) {
+        return enabled && listenerId != null && listeners.contains(listenerId);
+    }
+}
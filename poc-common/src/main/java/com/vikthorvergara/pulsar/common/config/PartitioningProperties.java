@@ -0,0 +1,15 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "poc.pulsar.partitioning")
+public record PartitioningProperties(
+        @DefaultValue("128") int virtualNodes,
+        @DefaultValue List<Topic> topics) {
+
+    public record Topic(String name, int partitions) {
+    }
+}
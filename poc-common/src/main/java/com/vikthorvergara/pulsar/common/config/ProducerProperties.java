@@ -0,0 +1,46 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import com.vikthorvergara.pulsar.common.producer.ProducerProfile;
+import com.vikthorvergara.pulsar.common.producer.ProducerTuning;
+import com.vikthorvergara.pulsar.common.producer.SendMode;
+import org.apache.pulsar.client.api.CompressionType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "poc.pulsar.producer")
+public record ProducerProperties(
+        @DefaultValue("default") ProducerProfile profile,
+        @DefaultValue("sync") SendMode sendMode,
+        Boolean batchingEnabled,
+        Duration batchingMaxPublishDelay,
+        Integer batchingMaxMessages,
+        DataSize batchingMaxBytes,
+        CompressionType compression,
+        Integer maxPendingMessages,
+        Boolean chunkingEnabled,
+        Boolean keyBasedBatching,
+        @DefaultValue Cache cache) {
+
+    public ProducerTuning tuning() {
+        ProducerTuning base = profile.tuning();
+        boolean chunking = chunkingEnabled != null ? chunkingEnabled : base.chunkingEnabled();
+        return new ProducerTuning(
+                batchingEnabled != null ? batchingEnabled : base.batchingEnabled() && !chunking,
+                batchingMaxPublishDelay != null ? batchingMaxPublishDelay : base.batchingMaxPublishDelay(),
+                batchingMaxMessages != null ? batchingMaxMessages : base.batchingMaxMessages(),
+                batchingMaxBytes != null ? (int) batchingMaxBytes.toBytes() : base.batchingMaxBytes(),
+                compression != null ? compression : base.compression(),
+                maxPendingMessages != null ? maxPendingMessages : base.maxPendingMessages(),
+                chunking,
+                keyBasedBatching != null ? keyBasedBatching : base.keyBasedBatching());
+    }
+
+    public record Cache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("1000") int maxSize,
+            @DefaultValue("5m") Duration idleTimeout) {
+    }
+}
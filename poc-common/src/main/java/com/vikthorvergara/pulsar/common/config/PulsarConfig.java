@@ -1,41 +1,93 @@
 package com.vikthorvergara.pulsar.common.config;
 
+import com.vikthorvergara.pulsar.common.listener.AdaptiveListenerContainerFactory;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.partition.ConsistentHashMessageRouter;
+import com.vikthorvergara.pulsar.common.producer.CachingProducerFactory;
+import com.vikthorvergara.pulsar.common.producer.ProducerTuning;
+import com.vikthorvergara.pulsar.common.schema.BaseEventSchema;
+import com.vikthorvergara.pulsar.common.schema.SchemaFormat;
+import org.apache.pulsar.client.admin.PulsarAdmin;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.pulsar.annotation.EnablePulsar;
 import org.springframework.pulsar.config.ConcurrentPulsarListenerContainerFactory;
 import org.springframework.pulsar.core.DefaultPulsarConsumerFactory;
 import org.springframework.pulsar.core.DefaultPulsarProducerFactory;
+import org.springframework.pulsar.core.DefaultSchemaResolver;
+import org.springframework.pulsar.core.DefaultTopicResolver;
+import org.springframework.pulsar.core.ProducerBuilderCustomizer;
 import org.springframework.pulsar.core.PulsarConsumerFactory;
 import org.springframework.pulsar.core.PulsarProducerFactory;
 import org.springframework.pulsar.core.PulsarTemplate;
+import org.springframework.pulsar.core.SchemaResolver;
 import org.springframework.pulsar.listener.PulsarContainerProperties;
 
 import java.util.Collections;
+import java.util.List;
 
 @Configuration
 @EnablePulsar
+@EnableConfigurationProperties({ProducerProperties.class, SchemaProperties.class,
+        ListenerConcurrencyProperties.class, ConsumerProperties.class, PartitioningProperties.class})
 public class PulsarConfig {
 
     @Bean
-    public PulsarClient pulsarClient(@Value("${spring.pulsar.client.service-url}") String serviceUrl)
+    public PulsarClient pulsarClient(@Value("${spring.pulsar.client.service-url}") String serviceUrl,
+            @Value("${poc.pulsar.transactions.enabled:false}") boolean transactionsEnabled)
             throws PulsarClientException {
         return PulsarClient.builder()
                 .serviceUrl(serviceUrl)
+                .enableTransaction(transactionsEnabled)
                 .build();
     }
 
     @Bean
-    public PulsarProducerFactory pulsarProducerFactory(PulsarClient pulsarClient) {
-        return new DefaultPulsarProducerFactory<>(pulsarClient);
+    public PulsarAdmin pulsarAdmin(@Value("${spring.pulsar.admin.service-url:http://localhost:8080}") String serviceUrl)
+            throws PulsarClientException {
+        return PulsarAdmin.builder()
+                .serviceHttpUrl(serviceUrl)
+                .build();
+    }
+
+    @Bean
+    public ConsistentHashMessageRouter messageRouter(PartitioningProperties partitioningProperties) {
+        return new ConsistentHashMessageRouter(partitioningProperties.virtualNodes());
+    }
+
+    @Bean
+    public PulsarProducerFactory pulsarProducerFactory(PulsarClient pulsarClient,
+            ProducerProperties producerProperties, ConsistentHashMessageRouter messageRouter, EventMetrics metrics) {
+        ProducerTuning tuning = producerProperties.tuning();
+        List<ProducerBuilderCustomizer<Object>> customizers = List.of(tuning.customizer(), messageRouter.customizer());
+        ProducerProperties.Cache cache = producerProperties.cache();
+        if (cache.enabled()) {
+            return new CachingProducerFactory(pulsarClient, customizers,
+                    cache.maxSize(), cache.idleTimeout(), metrics);
+        }
+        return new DefaultPulsarProducerFactory<Object>(pulsarClient, null, customizers);
+    }
+
+    @Bean
+    public SchemaResolver schemaResolver(SchemaProperties schemaProperties,
+            ObjectProvider<BaseEventSchema<?>> eventSchemas) {
+        var schemaResolver = new DefaultSchemaResolver();
+        if (schemaProperties.format() == SchemaFormat.BINARY) {
+            eventSchemas.orderedStream()
+                    .forEach(schema -> schemaResolver.addCustomSchemaMapping(schema.getEventType(), schema));
+        }
+        return schemaResolver;
     }
 
     @Bean
-    public PulsarTemplate pulsarTemplate(PulsarProducerFactory pulsarProducerFactory) {
-        return new PulsarTemplate<>(pulsarProducerFactory);
+    public PulsarTemplate pulsarTemplate(PulsarProducerFactory pulsarProducerFactory, SchemaResolver schemaResolver) {
+        return new PulsarTemplate<>(pulsarProducerFactory, Collections.emptyList(), schemaResolver,
+                new DefaultTopicResolver(), false);
     }
 
     @Bean
@@ -45,8 +97,12 @@ public class PulsarConfig {
 
     @Bean
     public ConcurrentPulsarListenerContainerFactory pulsarListenerContainerFactory(
-            PulsarConsumerFactory pulsarConsumerFactory) {
+            PulsarConsumerFactory pulsarConsumerFactory, SchemaResolver schemaResolver,
+            ListenerConcurrencyProperties listenerConcurrencyProperties, ConsumerProperties consumerProperties,
+            EventMetrics metrics) {
         PulsarContainerProperties containerProperties = new PulsarContainerProperties();
-        return new ConcurrentPulsarListenerContainerFactory<>(pulsarConsumerFactory, containerProperties);
+        containerProperties.setSchemaResolver(schemaResolver);
+        return new AdaptiveListenerContainerFactory(pulsarConsumerFactory, containerProperties,
+                listenerConcurrencyProperties, consumerProperties, metrics);
     }
 }
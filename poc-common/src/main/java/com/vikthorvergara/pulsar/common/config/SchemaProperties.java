@@ -0,0 +1,9 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import com.vikthorvergara.pulsar.common.schema.SchemaFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "poc.pulsar.schema")
+public record SchemaProperties(@DefaultValue("json") SchemaFormat format) {
+}
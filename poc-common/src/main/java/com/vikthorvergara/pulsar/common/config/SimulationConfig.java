@@ -0,0 +1,14 @@
+package com.vikthorvergara.pulsar.common.config;
+
+import com.vikthorvergara.pulsar.common.support.SimulatedLatency;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SimulationConfig {
+
+    @Bean
+    public SimulatedLatency simulatedLatency() {
+        return SimulatedLatency.SLEEP;
+    }
+}
@@ -0,0 +1,84 @@
+package com.vikthorvergara.pulsar.common.listener;
+
+import com.vikthorvergara.pulsar.common.config.ConsumerProperties;
+import com.vikthorvergara.pulsar.common.config.ListenerConcurrencyProperties;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.pulsar.config.ConcurrentPulsarListenerContainerFactory;
+import org.springframework.pulsar.config.PulsarListenerEndpoint;
+import org.springframework.pulsar.core.PulsarConsumerFactory;
+import org.springframework.pulsar.listener.ConcurrentPulsarMessageListenerContainer;
+import org.springframework.pulsar.listener.PulsarContainerProperties;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+
+public class AdaptiveListenerContainerFactory extends ConcurrentPulsarListenerContainerFactory<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveListenerContainerFactory.class);
+
+    private final ListenerConcurrencyProperties concurrencyProperties;
+    private final ConsumerProperties consumerProperties;
+    private final EventMetrics metrics;
+
+    public AdaptiveListenerContainerFactory(PulsarConsumerFactory<Object> consumerFactory,
+                                            PulsarContainerProperties containerProperties,
+                                            ListenerConcurrencyProperties concurrencyProperties,
+                                            ConsumerProperties consumerProperties, EventMetrics metrics) {
+        super(consumerFactory, containerProperties);
+        this.concurrencyProperties = concurrencyProperties;
+        this.consumerProperties = consumerProperties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void initializeContainer(ConcurrentPulsarMessageListenerContainer<Object> instance,
+                                       PulsarListenerEndpoint endpoint) {
+        super.initializeContainer(instance, endpoint);
+        String name = endpoint.getId() != null ? endpoint.getId() : endpoint.getSubscriptionName();
+
+        ConsumerTuning tuning = consumerProperties.tuning(endpoint.getSubscriptionName());
+        ConcurrencyLimit limit = null;
+        if (concurrencyProperties.adaptive(endpoint.getId())) {
+            int consumers;
+            if (endpoint.getConcurrency() != null) {
+                consumers = endpoint.getConcurrency();
+            } else if (isShared(endpoint.getSubscriptionType())) {
+                consumers = concurrencyProperties.maxLimit();
+                instance.setConcurrency(consumers);
+            } else {
+                consumers = 1;
+            }
+            if (consumers > 1) {
+                tuning = tuning.splitAcross(consumers);
+                limit = new ConcurrencyLimit(concurrencyProperties, consumers);
+                metrics.gauge("poc.listener.concurrency.limit", limit::limit, "listener", name);
+                metrics.gauge("poc.listener.concurrency.inflight", limit::inFlight, "listener", name);
+            }
+        }
+
+        tuning.apply(instance.getContainerProperties().getPulsarConsumerProperties());
+        PrefetchController prefetch = null;
+        if (tuning.backpressure() == BackpressureMode.QUEUE_DEPTH) {
+            prefetch = new PrefetchController(tuning);
+            metrics.gauge("poc.listener.prefetch", prefetch::queueSize, "listener", name);
+        }
+
+        Object listener = instance.getContainerProperties().getMessageListener();
+        if (listener == null || (limit == null && prefetch == null)) {
+            return;
+        }
+        instance.getContainerProperties().setMessageListener(Proxy.newProxyInstance(
+            listener.getClass().getClassLoader(),
+            ClassUtils.getAllInterfacesForClass(listener.getClass()),
+            new AdaptiveListenerHandler(listener, limit, prefetch)));
+        log.info("Adaptive listener enabled: listener={}, receiverQueueSize={}, backpressure={}, limit={}",
+            name, tuning.receiverQueueSize(), tuning.backpressure(), limit != null ? limit.limit() : 1);
+    }
+
+    private static boolean isShared(SubscriptionType subscriptionType) {
+        return subscriptionType == SubscriptionType.Shared || subscriptionType == SubscriptionType.Key_Shared;
+    }
+}
@@ -0,0 +1,77 @@
+package com.vikthorvergara.pulsar.common.listener;
+
+import org.apache.pulsar.client.api.Consumer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+final class AdaptiveListenerHandler implements InvocationHandler {
+
+    private final Object delegate;
+    private final ConcurrencyLimit limit;
+    private final PrefetchController prefetch;
+
+    AdaptiveListenerHandler(Object delegate, ConcurrencyLimit limit, PrefetchController prefetch) {
+        this.delegate = delegate;
+        this.limit = limit;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("received") && args != null && args.length >= 2) {
+            return invokeAdaptive(method, args);
+        }
+        switch (method.getName()) {
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+                return "Adaptive[" + delegate + "]";
+            }
+            default -> {
+                return invokeDelegate(method, args);
+            }
+        }
+    }
+
+    private Object invokeAdaptive(Method method, Object[] args) throws Throwable {
+        int inFlight = 0;
+        if (limit != null) {
+            try {
+                inFlight = limit.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for listener concurrency", e);
+            }
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invokeDelegate(method, args);
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (limit != null) {
+                limit.release(elapsed, inFlight, failed);
+            }
+            if (prefetch != null && args[0] instanceof Consumer<?> consumer) {
+                prefetch.onHandled(consumer, elapsed, args[1] instanceof List<?> batch ? batch.size() : 1);
+            }
+        }
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
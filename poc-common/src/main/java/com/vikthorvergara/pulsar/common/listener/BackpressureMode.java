@@ -0,0 +1,6 @@
+package com.vikthorvergara.pulsar.common.listener;
+
+public enum BackpressureMode {
+    NONE,
+    QUEUE_DEPTH
+}
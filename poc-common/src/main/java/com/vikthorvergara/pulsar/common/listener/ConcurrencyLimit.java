@@ -0,0 +1,102 @@
+package com.vikthorvergara.pulsar.common.listener;
+
+import com.vikthorvergara.pulsar.common.config.ListenerConcurrencyProperties;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final int rttWindow;
+    private final ReentrantLock lock;
+    private final Condition available;
+
+    private double limit;
+    private long minRttNanos;
+    private long windowMinRttNanos;
+    private int windowSamples;
+    private int inFlight;
+
+    public ConcurrencyLimit(ListenerConcurrencyProperties properties, int maxLimit) {
+        this.maxLimit = Math.max(1, Math.min(maxLimit, properties.maxLimit()));
+        this.minLimit = Math.max(1, Math.min(properties.minLimit(), this.maxLimit));
+        this.smoothing = properties.smoothing();
+        this.tolerance = properties.tolerance();
+        this.backoffRatio = properties.backoffRatio();
+        this.rttWindow = Math.max(1, properties.rttWindow());
+        this.lock = new ReentrantLock();
+        this.available = lock.newCondition();
+        this.limit = Math.clamp(properties.initialLimit(), this.minLimit, this.maxLimit);
+    }
+
+    public int acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                available.await();
+            }
+            return ++inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long rttNanos, int inFlightAtStart, boolean failed) {
+        lock.lock();
+        try {
+            inFlight--;
+            int before = (int) limit;
+            if (failed) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else {
+                update(rttNanos, inFlightAtStart);
+            }
+            if ((int) limit > before) {
+                available.signalAll();
+            } else {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, int inFlightAtStart) {
+        long rtt = Math.max(1, rttNanos);
+        windowMinRttNanos = windowSamples == 0 ? rtt : Math.min(windowMinRttNanos, rtt);
+        minRttNanos = minRttNanos == 0 ? rtt : Math.min(minRttNanos, rtt);
+        if (++windowSamples >= rttWindow) {
+            minRttNanos = windowMinRttNanos;
+            windowSamples = 0;
+        }
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+        double gradient = Math.clamp(tolerance * minRttNanos / rtt, 0.5, 1.0);
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.clamp(limit * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.vikthorvergara.pulsar.common.listener;
+
+import java.time.Duration;
+import java.util.Properties;
+
+public record ConsumerTuning(
+        int receiverQueueSize,
+        int maxTotalReceiverQueueSizeAcrossPartitions,
+        Duration acknowledgementsGroupTime,
+        boolean batchIndexAckEnabled,
+        BackpressureMode backpressure,
+        Duration targetQueueTime,
+        int minReceiverQueueSize) {
+
+    public ConsumerTuning {
+        if (backpressure == BackpressureMode.QUEUE_DEPTH
+                && (minReceiverQueueSize < 1 || minReceiverQueueSize > receiverQueueSize)) {
+            throw new IllegalArgumentException("Queue-depth backpressure needs 1 <= minReceiverQueueSize <= receiverQueueSize: "
+                    + minReceiverQueueSize + ", " + receiverQueueSize);
+        }
+    }
+
+    public ConsumerTuning splitAcross(int consumers) {
+        int perConsumer = Math.max(1, Math.ceilDiv(receiverQueueSize, consumers));
+        return new ConsumerTuning(perConsumer, maxTotalReceiverQueueSizeAcrossPartitions, acknowledgementsGroupTime,
+                batchIndexAckEnabled, backpressure, targetQueueTime, Math.min(minReceiverQueueSize, perConsumer));
+    }
+
+    public void apply(Properties consumerProperties) {
+        putIfAbsent(consumerProperties, "receiverQueueSize", receiverQueueSize);
+        putIfAbsent(consumerProperties, "maxTotalReceiverQueueSizeAcrossPartitions",
+                maxTotalReceiverQueueSizeAcrossPartitions);
+        putIfAbsent(consumerProperties, "acknowledgementsGroupTimeMicros", acknowledgementsGroupTime.toNanos() / 1000);
+        putIfAbsent(consumerProperties, "batchIndexAckEnabled", batchIndexAckEnabled);
+    }
+
+    private static void putIfAbsent(Properties properties, String key, Object value) {
+        if (!properties.containsKey(key)) {
+            properties.setProperty(key, String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.vikthorvergara.pulsar.common.listener;
+
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.impl.ConsumerBase;
+
+public class PrefetchController {
+
+    private static final double ALPHA = 0.2;
+
+    private final int minQueueSize;
+    private final int maxQueueSize;
+    private final long targetQueueNanos;
+
+    private double messageNanos;
+    private volatile int queueSize;
+
+    public PrefetchController(ConsumerTuning tuning) {
+        this.minQueueSize = tuning.minReceiverQueueSize();
+        this.maxQueueSize = tuning.receiverQueueSize();
+        this.targetQueueNanos = tuning.targetQueueTime().toNanos();
+        this.queueSize = maxQueueSize;
+    }
+
+    public void onHandled(Consumer<?> consumer, long elapsedNanos, int messages) {
+        if (!(consumer instanceof ConsumerBase<?> base) || messages <= 0) {
+            return;
+        }
+        double perMessage = sample((double) Math.max(1, elapsedNanos) / messages);
+        int current = base.getCurrentReceiverQueueSize();
+        int desired = (int) Math.clamp(targetQueueNanos / perMessage, minQueueSize, maxQueueSize);
+        double queuedNanos = base.getTotalIncomingMessages() * perMessage;
+
+        int next = current;
+        if (desired < current && queuedNanos > targetQueueNanos) {
+            next = desired;
+        } else if (desired > current && queuedNanos < targetQueueNanos / 2.0) {
+            next = Math.min(desired, current * 2);
+        }
+        if (next != current) {
+            base.setCurrentReceiverQueueSize(next);
+            queueSize = next;
+        }
+    }
+
+    private synchronized double sample(double perMessageNanos) {
+        messageNanos = messageNanos == 0 ? perMessageNanos : messageNanos * (1 - ALPHA) + perMessageNanos * ALPHA;
+        return messageNanos;
+    }
+
+    public int queueSize() {
+        return queueSize;
+    }
+}
@@ -0,0 +1,105 @@
+package com.vikthorvergara.pulsar.common.metrics;
+
+import com.vikthorvergara.pulsar.common.model.BaseEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class EventMetrics {
+
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry registry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Gauge> gauges = new ConcurrentHashMap<>();
+
+    public EventMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void recordHandler(String handler, long startNanos, String... tags) {
+        timer("poc.handler.latency", handler, tags).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEndToEnd(String handler, BaseEvent event, String... tags) {
+        Instant timestamp = event.getTimestamp();
+        if (timestamp == null) {
+            return;
+        }
+        Duration elapsed = Duration.between(timestamp, Instant.now());
+        if (!elapsed.isNegative()) {
+            timer("poc.event.end-to-end", handler, tags).record(elapsed);
+        }
+    }
+
+    public void recordSend(String topic, long startNanos, Throwable failure) {
+        String outcome = failure == null ? "success" : "failure";
+        timer("poc.producer.send.latency", null, "topic", topic, "outcome", outcome)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (failure != null) {
+            increment("poc.producer.send.failures", "topic", topic, "exception", failure.getClass().getSimpleName());
+        }
+    }
+
+    public void increment(String name, String... tags) {
+        counters.computeIfAbsent(MeterKey.of(name, null, tags),
+            key -> Counter.builder(name).tags(key.tags()).register(registry)).increment();
+    }
+
+    public void gauge(String name, Supplier<Number> value, String... tags) {
+        gauges.computeIfAbsent(MeterKey.of(name, null, tags),
+            key -> Gauge.builder(name, value).tags(key.tags()).register(registry));
+    }
+
+    public void removeGauge(String name, String... tags) {
+        MeterKey key = MeterKey.of(name, null, tags);
+        Gauge gauge = gauges.remove(key);
+        if (gauge == null) {
+            gauge = registry.find(name).tags(key.tags()).gauge();
+        }
+        if (gauge != null) {
+            registry.remove(gauge);
+        }
+    }
+
+    private Timer timer(String name, String handler, String... tags) {
+        return timers.computeIfAbsent(MeterKey.of(name, handler, tags), key -> {
+            Timer.Builder builder = Timer.builder(name).tags(key.tags());
+            if (handler != null) {
+                builder.tag("handler", handler);
+            }
+            return builder.publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+        });
+    }
+
+    private record MeterKey(String name, String handler, List<String> keyValues) {
+
+        static MeterKey of(String name, String handler, String... keyValues) {
+            for (int i = 1; i < keyValues.length; i += 2) {
+                if (keyValues[i] == null) {
+                    keyValues[i] = "unknown";
+                }
+            }
+            return new MeterKey(name, handler, List.of(keyValues));
+        }
+
+        Tags tags() {
+            return Tags.of(keyValues.toArray(String[]::new));
+        }
+    }
+}
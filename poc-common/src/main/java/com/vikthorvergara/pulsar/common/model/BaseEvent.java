@@ -1,22 +1,47 @@
 package com.vikthorvergara.pulsar.common.model;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Instant;
-import java.util.UUID;
 
 public abstract class BaseEvent {
 
-    private String id;
-    private Instant timestamp;
+    private static final ClassValue<String> TYPE_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return type.getSimpleName();
+        }
+    };
+
+    private static final VarHandle ID;
+    private static final VarHandle TIMESTAMP;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            ID = lookup.findVarHandle(BaseEvent.class, "id", String.class);
+            TIMESTAMP = lookup.findVarHandle(BaseEvent.class, "timestamp", Instant.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile String id;
+    private volatile Instant timestamp;
     private String type;
 
     public BaseEvent() {
-        this.id = UUID.randomUUID().toString();
-        this.timestamp = Instant.now();
-        this.type = this.getClass().getSimpleName();
+        this.type = TYPE_NAMES.get(getClass());
     }
 
     public String getId() {
-        return id;
+        String current = id;
+        if (current != null) {
+            return current;
+        }
+        String generated = EventIds.next(getTimestamp().toEpochMilli());
+        String witness = (String) ID.compareAndExchange(this, null, generated);
+        return witness == null ? generated : witness;
     }
 
     public void setId(String id) {
@@ -24,7 +49,13 @@ public abstract class BaseEvent {
     }
 
     public Instant getTimestamp() {
-        return timestamp;
+        Instant current = timestamp;
+        if (current != null) {
+            return current;
+        }
+        Instant now = Instant.now();
+        Instant witness = (Instant) TIMESTAMP.compareAndExchange(this, null, now);
+        return witness == null ? now : witness;
     }
 
     public void setTimestamp(Instant timestamp) {
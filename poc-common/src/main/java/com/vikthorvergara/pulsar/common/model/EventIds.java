@@ -0,0 +1,44 @@
+package com.vikthorvergara.pulsar.common.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class EventIds {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private EventIds() {
+    }
+
+    public static String next() {
+        return next(System.currentTimeMillis());
+    }
+
+    public static String next(long epochMillis) {
+        return nextUuid(epochMillis).toString();
+    }
+
+    public static UUID nextUuid(long epochMillis) {
+        long floor = epochMillis << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = LAST.get();
+            next = Math.max(floor, prev + 1);
+        } while (!LAST.compareAndSet(prev, next));
+
+        long msb = (next >>> SEQUENCE_BITS) << 16 | VERSION_7 | (next & ((1L << SEQUENCE_BITS) - 1));
+        long lsb = ThreadLocalRandom.current().nextLong() & RANDOM_B_MASK | VARIANT_RFC_4122;
+        return new UUID(msb, lsb);
+    }
+
+    public static long epochMillis(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
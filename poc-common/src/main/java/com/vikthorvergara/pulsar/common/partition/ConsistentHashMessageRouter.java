@@ -0,0 +1,102 @@
+package com.vikthorvergara.pulsar.common.partition;
+
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageRouter;
+import org.apache.pulsar.client.api.MessageRoutingMode;
+import org.apache.pulsar.client.api.TopicMetadata;
+import org.springframework.pulsar.core.ProducerBuilderCustomizer;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ConsistentHashMessageRouter implements MessageRouter {
+
+    private final int virtualNodes;
+    private final long keylessOffset;
+    private final Map<Integer, Ring> rings;
+
+    public ConsistentHashMessageRouter(int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+        this.keylessOffset = ThreadLocalRandom.current().nextInt(1 << 16);
+        this.rings = new ConcurrentHashMap<>();
+    }
+
+    public <T> ProducerBuilderCustomizer<T> customizer() {
+        return builder -> builder.messageRoutingMode(MessageRoutingMode.CustomPartition).messageRouter(this);
+    }
+
+    @Override
+    public int choosePartition(Message<?> msg, TopicMetadata metadata) {
+        int partitions = metadata.numPartitions();
+        if (partitions <= 1) {
+            return 0;
+        }
+        if (!msg.hasKey()) {
+            return (int) Math.floorMod(System.currentTimeMillis() + keylessOffset, (long) partitions);
+        }
+        return partition(msg.getKey(), partitions);
+    }
+
+    public int partition(String key, int partitions) {
+        if (partitions <= 1) {
+            return 0;
+        }
+        return rings.computeIfAbsent(partitions, n -> Ring.build(n, virtualNodes)).owner(hash(key));
+    }
+
+    static long hash(CharSequence key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private record Ring(long[] points, int[] owners) {
+
+        static Ring build(int partitions, int virtualNodes) {
+            int size = partitions * virtualNodes;
+            long[] keys = new long[size];
+            for (int partition = 0; partition < partitions; partition++) {
+                for (int node = 0; node < virtualNodes; node++) {
+                    long point = mix(((long) partition << 32 | node) * 0x9E3779B97F4A7C15L + 1);
+                    keys[partition * virtualNodes + node] = point;
+                }
+            }
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+            long[] points = new long[size];
+            int[] owners = new int[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = keys[order[i]];
+                owners[i] = order[i] / virtualNodes;
+            }
+            return new Ring(points, owners);
+        }
+
+        int owner(long hash) {
+            int index = Arrays.binarySearch(points, hash);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return owners[index == points.length ? 0 : index];
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.vikthorvergara.pulsar.common.partition;
+
+import com.vikthorvergara.pulsar.common.config.PartitioningProperties;
+import jakarta.annotation.PostConstruct;
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.client.admin.PulsarAdminException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PartitionedTopicProvisioner {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionedTopicProvisioner.class);
+
+    private final PulsarAdmin pulsarAdmin;
+    private final PartitioningProperties properties;
+
+    public PartitionedTopicProvisioner(PulsarAdmin pulsarAdmin, PartitioningProperties properties) {
+        this.pulsarAdmin = pulsarAdmin;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void createPartitionedTopics() {
+        properties.topics().forEach(topic -> provision(topic.name(), topic.partitions()));
+    }
+
+    public void provision(String topic, int partitions) {
+        try {
+            int current = pulsarAdmin.topics().getPartitionedTopicMetadata(topic).partitions;
+            if (current == partitions) {
+                log.debug("Partitioned topic up to date: topic={}, partitions={}", topic, current);
+            } else if (current == 0) {
+                create(topic, partitions);
+            } else if (current < partitions) {
+                pulsarAdmin.topics().updatePartitionedTopic(topic, partitions);
+                log.info("Partitioned topic expanded: topic={}, partitions={} -> {}", topic, current, partitions);
+            } else {
+                log.warn("Partitions cannot be removed, keeping existing count: topic={}, configured={}, current={}",
+                    topic, partitions, current);
+            }
+        } catch (PulsarAdminException e) {
+            log.warn("Could not provision partitioned topic: topic={}, partitions={}, error={}",
+                topic, partitions, e.getMessage());
+        }
+    }
+
+    private void create(String topic, int partitions) throws PulsarAdminException {
+        try {
+            pulsarAdmin.topics().createPartitionedTopic(topic, partitions);
+            log.info("Partitioned topic created: topic={}, partitions={}", topic, partitions);
+        } catch (PulsarAdminException.ConflictException e) {
+            throw new IllegalStateException("Topic exists as non-partitioned and must be migrated before it can be "
+                + "partitioned: topic=" + topic + ", partitions=" + partitions, e);
+        }
+    }
+}
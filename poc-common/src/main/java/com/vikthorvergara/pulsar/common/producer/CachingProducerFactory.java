@@ -0,0 +1,345 @@
+package com.vikthorvergara.pulsar.common.producer;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.common.schema.SchemaInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.pulsar.core.DefaultPulsarProducerFactory;
+import org.springframework.pulsar.core.ProducerBuilderCustomizer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class CachingProducerFactory extends DefaultPulsarProducerFactory<Object> implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingProducerFactory.class);
+
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final EventMetrics metrics;
+    private final ReentrantLock lock;
+    private final LinkedHashMap<ProducerKey, CachedProducer> producers;
+    private final ScheduledExecutorService sweeper;
+    private final ExecutorService warmUpExecutor;
+
+    public CachingProducerFactory(PulsarClient pulsarClient, List<ProducerBuilderCustomizer<Object>> customizers,
+                                  int maxSize, Duration idleTimeout, EventMetrics metrics) {
+        super(pulsarClient, null, customizers);
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.metrics = metrics;
+        this.lock = new ReentrantLock();
+        this.producers = new LinkedHashMap<>(16, 0.75f, true);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("producer-cache-sweeper").daemon(true).factory());
+        long period = Math.max(1000, idleTimeout.toMillis() / 4);
+        this.sweeper.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        this.warmUpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        metrics.gauge("poc.producer.cache.size", this::size);
+    }
+
+    public CompletableFuture<Void> warmUp(Schema<?> schema, String topic) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                @SuppressWarnings("unchecked")
+                var lease = createProducer((Schema<Object>) schema, topic);
+                lease.closeAsync();
+                log.debug("Producer warmed up: topic={}", topic);
+            } catch (PulsarClientException e) {
+                log.warn("Producer warm-up failed: topic={}, error={}", topic, e.getMessage());
+            }
+        }, warmUpExecutor);
+    }
+
+    public void evict(String topic) {
+        var evicted = new ArrayList<CachedProducer>();
+        lock.lock();
+        try {
+            producers.entrySet().removeIf(entry -> {
+                if (entry.getKey().topic().equals(topic)) {
+                    evicted.add(entry.getValue());
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(cached -> retire(cached, "explicit"));
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return producers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected Producer<Object> doCreateProducer(Schema<Object> schema, String topic,
+            Collection<String> encryptionKeys, List<ProducerBuilderCustomizer<Object>> customizers)
+            throws PulsarClientException {
+        String resolvedTopic = resolveTopicName(topic);
+        var key = new ProducerKey(resolvedTopic, schema.getSchemaInfo(),
+            encryptionKeys == null ? null : Set.copyOf(encryptionKeys), customizers);
+
+        CachedProducer cached;
+        CachedProducer evicted = null;
+        boolean creator = false;
+        lock.lock();
+        try {
+            cached = producers.get(key);
+            if (cached == null) {
+                metrics.increment("poc.producer.cache.misses");
+                cached = new CachedProducer(resolvedTopic);
+                producers.put(key, cached);
+                creator = true;
+                if (producers.size() > maxSize) {
+                    var eldest = producers.entrySet().iterator().next();
+                    evicted = eldest.getValue();
+                    producers.remove(eldest.getKey());
+                }
+            } else {
+                metrics.increment("poc.producer.cache.hits");
+            }
+            cached.acquire();
+        } finally {
+            lock.unlock();
+        }
+        if (evicted != null) {
+            retire(evicted, "size");
+        }
+
+        if (creator) {
+            try {
+                cached.created(super.doCreateProducer(schema, topic, encryptionKeys, customizers));
+            } catch (PulsarClientException | RuntimeException e) {
+                cached.failed(e);
+                lock.lock();
+                try {
+                    producers.remove(key, cached);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+        return cached.lease();
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+        warmUpExecutor.shutdownNow();
+        List<CachedProducer> all;
+        lock.lock();
+        try {
+            all = List.copyOf(producers.values());
+            producers.clear();
+        } finally {
+            lock.unlock();
+        }
+        CompletableFuture.allOf(all.stream().map(CachedProducer::close).toArray(CompletableFuture[]::new))
+            .orTimeout(10, TimeUnit.SECONDS)
+            .exceptionally(e -> null)
+            .join();
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        var idle = new ArrayList<CachedProducer>();
+        lock.lock();
+        try {
+            producers.values().removeIf(cached -> {
+                if (cached.leases() == 0 && now - cached.lastUsedNanos() >= idleTimeoutNanos) {
+                    idle.add(cached);
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            lock.unlock();
+        }
+        idle.forEach(cached -> retire(cached, "idle"));
+    }
+
+    private void retire(CachedProducer cached, String reason) {
+        metrics.increment("poc.producer.cache.evictions", "reason", reason);
+        log.debug("Evicting cached producer: topic={}, reason={}", cached.topic(), reason);
+        cached.retire();
+    }
+
+    private record ProducerKey(String topic, SchemaInfo schemaInfo, Set<String> encryptionKeys,
+                               List<ProducerBuilderCustomizer<Object>> customizers) {
+
+        private ProducerKey {
+            encryptionKeys = encryptionKeys == null ? Set.of() : encryptionKeys;
+            customizers = customizers == null ? List.of() : List.copyOf(customizers);
+        }
+    }
+
+    private static final class CachedProducer {
+
+        private final String topic;
+        private final CompletableFuture<Producer<Object>> producer;
+        private int leases;
+        private boolean retired;
+        private volatile long lastUsedNanos;
+
+        private CachedProducer(String topic) {
+            this.topic = topic;
+            this.producer = new CompletableFuture<>();
+            this.lastUsedNanos = System.nanoTime();
+        }
+
+        String topic() {
+            return topic;
+        }
+
+        Producer<Object> producer() {
+            return producer.join();
+        }
+
+        long lastUsedNanos() {
+            return lastUsedNanos;
+        }
+
+        synchronized int leases() {
+            return leases;
+        }
+
+        synchronized void acquire() {
+            leases++;
+            lastUsedNanos = System.nanoTime();
+        }
+
+        void created(Producer<Object> created) {
+            producer.complete(created);
+        }
+
+        void failed(Throwable e) {
+            producer.completeExceptionally(e);
+        }
+
+        @SuppressWarnings("unchecked")
+        Producer<Object> lease() throws PulsarClientException {
+            try {
+                producer.join();
+            } catch (CompletionException e) {
+                release();
+                if (e.getCause() instanceof PulsarClientException pulsarException) {
+                    throw pulsarException;
+                }
+                throw new PulsarClientException(e.getCause());
+            }
+            return (Producer<Object>) Proxy.newProxyInstance(Producer.class.getClassLoader(),
+                new Class<?>[] {Producer.class}, new LeaseHandler(this));
+        }
+
+        void release() {
+            boolean close;
+            synchronized (this) {
+                leases--;
+                lastUsedNanos = System.nanoTime();
+                close = retired && leases == 0;
+            }
+            if (close) {
+                close();
+            }
+        }
+
+        void retire() {
+            boolean close;
+            synchronized (this) {
+                retired = true;
+                close = leases == 0;
+            }
+            if (close) {
+                close();
+            }
+        }
+
+        CompletableFuture<Void> close() {
+            if (producer.isCompletedExceptionally()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return producer.thenCompose(created -> created.flushAsync()
+                    .exceptionally(e -> null)
+                    .thenCompose(ignored -> created.closeAsync()))
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.warn("Failed to close cached producer: topic={}, error={}", topic, e.getMessage());
+                    }
+                });
+        }
+    }
+
+    private static final class LeaseHandler implements InvocationHandler {
+
+        private final CachedProducer cached;
+        private final AtomicBoolean released;
+
+        private LeaseHandler(CachedProducer cached) {
+            this.cached = cached;
+            this.released = new AtomicBoolean();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    release();
+                    return null;
+                }
+                case "closeAsync" -> {
+                    release();
+                    return CompletableFuture.completedFuture(null);
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "CachedProducer[" + cached.topic() + "]";
+                }
+                default -> {
+                    try {
+                        return method.invoke(cached.producer(), args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                cached.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.vikthorvergara.pulsar.common.producer;
+
+import com.vikthorvergara.pulsar.common.config.ProducerProperties;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import org.apache.pulsar.client.api.MessageId;
+import org.springframework.pulsar.core.PulsarTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+public class EventPublisher {
+
+    private final PulsarTemplate pulsarTemplate;
+    private final SendMode sendMode;
+    private final EventMetrics metrics;
+
+    public EventPublisher(PulsarTemplate pulsarTemplate, ProducerProperties producerProperties,
+                          EventMetrics metrics) {
+        this.pulsarTemplate = pulsarTemplate;
+        this.sendMode = producerProperties.sendMode();
+        this.metrics = metrics;
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<MessageId> publish(String topic, Object event) {
+        long start = System.nanoTime();
+        if (sendMode == SendMode.ASYNC) {
+            return instrument(topic, start, () -> pulsarTemplate.sendAsync(topic, event));
+        }
+
+        try {
+            var messageId = pulsarTemplate.send(topic, event);
+            metrics.recordSend(topic, start, null);
+            return CompletableFuture.completedFuture(messageId);
+        } catch (Exception e) {
+            metrics.recordSend(topic, start, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<MessageId> publish(String topic, Object event, String key) {
+        var message = pulsarTemplate.newMessage(event)
+                .withTopic(topic)
+                .withMessageCustomizer(builder -> builder.key(key));
+
+        long start = System.nanoTime();
+        if (sendMode == SendMode.ASYNC) {
+            return instrument(topic, start, message::sendAsync);
+        }
+
+        try {
+            var messageId = message.send();
+            metrics.recordSend(topic, start, null);
+            return CompletableFuture.completedFuture(messageId);
+        } catch (Exception e) {
+            metrics.recordSend(topic, start, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<MessageId> publishAsync(String topic, Object event, String key) {
+        long start = System.nanoTime();
+        return instrument(topic, start, () -> pulsarTemplate.newMessage(event)
+                .withTopic(topic)
+                .withMessageCustomizer(builder -> builder.key(key))
+                .sendAsync());
+    }
+
+    private CompletableFuture<MessageId> instrument(String topic, long start,
+                                                    Supplier<CompletableFuture<MessageId>> send) {
+        try {
+            return send.get().whenComplete((messageId, e) -> metrics.recordSend(topic, start, e));
+        } catch (RuntimeException e) {
+            metrics.recordSend(topic, start, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public SendMode getSendMode() {
+        return sendMode;
+    }
+}
@@ -0,0 +1,33 @@
+package com.vikthorvergara.pulsar.common.producer;
+
+import org.apache.pulsar.client.api.CompressionType;
+
+import java.time.Duration;
+
+public enum ProducerProfile {
+
+    DEFAULT(new ProducerTuning(true, Duration.ofMillis(1), 1000, 128 * 1024,
+            CompressionType.NONE, 0, false, false)),
+
+    LOW_LATENCY(new ProducerTuning(true, Duration.ofMillis(1), 100, 64 * 1024,
+            CompressionType.LZ4, 1000, false, false)),
+
+    THROUGHPUT(new ProducerTuning(true, Duration.ofMillis(10), 5000, 1024 * 1024,
+            CompressionType.LZ4, 10000, false, false)),
+
+    COMPACT(new ProducerTuning(true, Duration.ofMillis(20), 10000, 4 * 1024 * 1024,
+            CompressionType.ZSTD, 10000, false, false)),
+
+    LARGE_MESSAGE(new ProducerTuning(false, Duration.ZERO, 1, 0,
+            CompressionType.ZSTD, 500, true, false));
+
+    private final ProducerTuning tuning;
+
+    ProducerProfile(ProducerTuning tuning) {
+        this.tuning = tuning;
+    }
+
+    public ProducerTuning tuning() {
+        return tuning;
+    }
+}
@@ -0,0 +1,47 @@
+package com.vikthorvergara.pulsar.common.producer;
+
+import org.apache.pulsar.client.api.BatcherBuilder;
+import org.apache.pulsar.client.api.CompressionType;
+import org.apache.pulsar.client.api.ProducerBuilder;
+import org.springframework.pulsar.core.ProducerBuilderCustomizer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public record ProducerTuning(
+        boolean batchingEnabled,
+        Duration batchingMaxPublishDelay,
+        int batchingMaxMessages,
+        int batchingMaxBytes,
+        CompressionType compression,
+        int maxPendingMessages,
+        boolean chunkingEnabled,
+        boolean keyBasedBatching) {
+
+    public ProducerTuning {
+        if (batchingEnabled && chunkingEnabled) {
+            throw new IllegalArgumentException("Pulsar producers cannot enable batching and chunking together");
+        }
+    }
+
+    public <T> ProducerBuilderCustomizer<T> customizer() {
+        return this::apply;
+    }
+
+    public <T> void apply(ProducerBuilder<T> builder) {
+        builder.enableBatching(batchingEnabled)
+                .compressionType(compression)
+                .maxPendingMessages(maxPendingMessages)
+                .blockIfQueueFull(true)
+                .enableChunking(chunkingEnabled);
+
+        if (batchingEnabled) {
+            builder.batchingMaxPublishDelay(batchingMaxPublishDelay.toMicros(), TimeUnit.MICROSECONDS)
+                    .batchingMaxMessages(batchingMaxMessages)
+                    .batchingMaxBytes(batchingMaxBytes);
+            if (keyBasedBatching) {
+                builder.batcherBuilder(BatcherBuilder.KEY_BASED);
+            }
+        }
+    }
+}
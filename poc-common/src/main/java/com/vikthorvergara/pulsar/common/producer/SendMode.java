@@ -0,0 +1,6 @@
+package com.vikthorvergara.pulsar.common.producer;
+
+public enum SendMode {
+    SYNC,
+    ASYNC
+}
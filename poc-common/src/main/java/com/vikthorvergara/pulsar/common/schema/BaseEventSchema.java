@@ -0,0 +1,77 @@
+package com.vikthorvergara.pulsar.common.schema;
+
+import com.vikthorvergara.pulsar.common.model.BaseEvent;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.apache.pulsar.common.schema.SchemaInfo;
+import org.apache.pulsar.common.schema.SchemaType;
+
+import java.util.Map;
+
+public abstract class BaseEventSchema<T extends BaseEvent> implements Schema<T> {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final Class<T> eventType;
+    private final int estimatedSize;
+    private final SchemaInfo schemaInfo;
+
+    protected BaseEventSchema(Class<T> eventType, int estimatedSize) {
+        this.eventType = eventType;
+        this.estimatedSize = estimatedSize;
+        this.schemaInfo = SchemaInfo.builder()
+                .name(eventType.getSimpleName())
+                .type(SchemaType.BYTES)
+                .schema(new byte[0])
+                .properties(Map.of(
+                    "encoding", "poc-binary",
+                    "version", String.valueOf(FORMAT_VERSION),
+                    "eventType", eventType.getName()))
+                .build();
+    }
+
+    public Class<T> getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public byte[] encode(T event) {
+        var encoder = new EventEncoder(estimatedSize);
+        encoder.writeByte(FORMAT_VERSION);
+        encoder.writeId(event.getId());
+        encoder.writeInstant(event.getTimestamp());
+        writeBody(event, encoder);
+        return encoder.toByteArray();
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        var decoder = new EventDecoder(bytes);
+        byte version = decoder.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new SchemaSerializationException(
+                "Unsupported " + eventType.getSimpleName() + " binary format version: " + version);
+        }
+        T event = newEvent();
+        event.setId(decoder.readId());
+        event.setTimestamp(decoder.readInstant());
+        readBody(decoder, event);
+        return event;
+    }
+
+    @Override
+    public SchemaInfo getSchemaInfo() {
+        return schemaInfo;
+    }
+
+    @Override
+    public Schema<T> clone() {
+        return this;
+    }
+
+    protected abstract T newEvent();
+
+    protected abstract void writeBody(T event, EventEncoder encoder);
+
+    protected abstract void readBody(EventDecoder decoder, T event);
+}
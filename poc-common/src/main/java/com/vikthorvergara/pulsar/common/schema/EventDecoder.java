@@ -0,0 +1,131 @@
+package com.vikthorvergara.pulsar.common.schema;
+
+import org.apache.pulsar.client.api.SchemaSerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+public final class EventDecoder {
+
+    private final byte[] buffer;
+    private int position;
+
+    public EventDecoder(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public byte readByte() {
+        require(1);
+        return buffer[position++];
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SchemaSerializationException("Malformed varint at offset " + position);
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SchemaSerializationException("Malformed varlong at offset " + position);
+    }
+
+    public int readSignedVarInt() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        length--;
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public String readId() {
+        return switch (readByte()) {
+            case EventEncoder.ID_NULL -> null;
+            case EventEncoder.ID_UUID -> new UUID(readLong(), readLong()).toString();
+            case EventEncoder.ID_STRING -> readString();
+            default -> throw new SchemaSerializationException("Unknown id encoding at offset " + (position - 1));
+        };
+    }
+
+    public Instant readInstant() {
+        long nanos = readLong();
+        if (nanos == EventEncoder.NULL_INSTANT) {
+            return null;
+        }
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+
+    public BigDecimal readDecimal() {
+        return switch (readByte()) {
+            case 0 -> null;
+            case 1 -> {
+                int scale = readSignedVarInt();
+                yield BigDecimal.valueOf(readLong(), scale);
+            }
+            case 2 -> {
+                int scale = readSignedVarInt();
+                int length = readVarInt();
+                require(length);
+                byte[] unscaled = new byte[length];
+                System.arraycopy(buffer, position, unscaled, 0, length);
+                position += length;
+                yield new BigDecimal(new BigInteger(unscaled), scale);
+            }
+            default -> throw new SchemaSerializationException("Unknown decimal encoding at offset " + (position - 1));
+        };
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > buffer.length) {
+            throw new SchemaSerializationException(
+                "Truncated event: need " + bytes + " bytes at offset " + position + " of " + buffer.length);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.vikthorvergara.pulsar.common.schema;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+public final class EventEncoder {
+
+    static final byte ID_NULL = 0;
+    static final byte ID_UUID = 1;
+    static final byte ID_STRING = 2;
+    static final long NULL_INSTANT = Long.MIN_VALUE;
+
+    private byte[] buffer;
+    private int position;
+
+    public EventEncoder(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeSignedVarInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes);
+    }
+
+    public void writeId(String id) {
+        if (id == null) {
+            writeByte(ID_NULL);
+            return;
+        }
+        if (id.length() == 36) {
+            try {
+                UUID uuid = UUID.fromString(id);
+                writeByte(ID_UUID);
+                writeLong(uuid.getMostSignificantBits());
+                writeLong(uuid.getLeastSignificantBits());
+                return;
+            } catch (IllegalArgumentException e) {
+                // not a canonical UUID, fall through to the string form
+            }
+        }
+        writeByte(ID_STRING);
+        writeString(id);
+    }
+
+    public void writeInstant(Instant instant) {
+        if (instant == null) {
+            writeLong(NULL_INSTANT);
+            return;
+        }
+        writeLong(Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano()));
+    }
+
+    public void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        if (value.unscaledValue().bitLength() < 64) {
+            writeByte(1);
+            writeSignedVarInt(value.scale());
+            writeLong(value.unscaledValue().longValue());
+            return;
+        }
+        writeByte(2);
+        writeSignedVarInt(value.scale());
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        writeVarInt(unscaled.length);
+        writeBytes(unscaled);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + extra));
+        }
+    }
+}
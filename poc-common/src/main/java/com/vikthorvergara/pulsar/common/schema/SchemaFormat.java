@@ -0,0 +1,6 @@
+package com.vikthorvergara.pulsar.common.schema;
+
+public enum SchemaFormat {
+    JSON,
+    BINARY
+}
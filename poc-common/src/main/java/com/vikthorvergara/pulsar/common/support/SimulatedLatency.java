@@ -0,0 +1,11 @@
+package com.vikthorvergara.pulsar.common.support;
+
+@FunctionalInterface
+public interface SimulatedLatency {
+
+    SimulatedLatency SLEEP = Thread::sleep;
+
+    SimulatedLatency NONE = millis -> { };
+
+    void pause(long millis) throws InterruptedException;
+}
@@ -0,0 +1,67 @@
+package com.vikthorvergara.pulsar.common.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashMessageRouterTest {
+
+    private static final int KEYS = 20_000;
+
+    private final ConsistentHashMessageRouter router = new ConsistentHashMessageRouter(160);
+
+    @Test
+    void mapsTheSameKeyToTheSamePartition() {
+        var other = new ConsistentHashMessageRouter(160);
+
+        for (String key : keys()) {
+            assertThat(router.partition(key, 8)).isEqualTo(router.partition(key, 8)).isEqualTo(other.partition(key, 8));
+        }
+    }
+
+    @Test
+    void spreadsKeysAcrossEveryPartition() {
+        int[] counts = new int[4];
+        for (String key : keys()) {
+            counts[router.partition(key, 4)]++;
+        }
+
+        for (int count : counts) {
+            assertThat(count).isBetween(KEYS / 4 * 8 / 10, KEYS / 4 * 12 / 10);
+        }
+    }
+
+    @Test
+    void movesOnlyKeysClaimedByTheNewPartitionWhenExpanding() {
+        int moved = 0;
+        for (String key : keys()) {
+            int before = router.partition(key, 4);
+            int after = router.partition(key, 5);
+            if (before != after) {
+                assertThat(after).isEqualTo(4);
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(KEYS / 5 * 7 / 10, KEYS / 5 * 13 / 10);
+    }
+
+    @Test
+    void usesPartitionZeroForUnpartitionedTopics() {
+        assertThat(router.partition("tenant-a", 1)).isZero();
+        assertThat(router.partition("tenant-a", 0)).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveVirtualNodes() {
+        assertThatThrownBy(() -> new ConsistentHashMessageRouter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String[] keys() {
+        return IntStream.range(0, KEYS).mapToObj(i -> new UUID(i, i * 31L).toString()).toArray(String[]::new);
+    }
+}
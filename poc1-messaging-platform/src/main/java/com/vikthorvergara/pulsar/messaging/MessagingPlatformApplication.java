@@ -1,7 +1,10 @@
 package com.vikthorvergara.pulsar.messaging;
 
+import com.vikthorvergara.pulsar.messaging.config.TenantRegistryProperties;
+import com.vikthorvergara.pulsar.messaging.config.TenantSchedulerProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.pulsar.annotation.EnablePulsar;
 
 @SpringBootApplication(scanBasePackages = {
@@ -9,6 +12,7 @@ import org.springframework.pulsar.annotation.EnablePulsar;
     "com.vikthorvergara.pulsar.common"
 })
 @EnablePulsar
+@EnableConfigurationProperties({TenantSchedulerProperties.class, TenantRegistryProperties.class})
 public class MessagingPlatformApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,25 @@
+package com.vikthorvergara.pulsar.messaging.config;
+
+import com.vikthorvergara.pulsar.messaging.tenant.TenantDefinition;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "poc.tenant.registry")
+public record TenantRegistryProperties(
+        List<TenantDefinition> tenants,
+        String file,
+        @DefaultValue("10s") Duration refreshInterval,
+        @DefaultValue("tenant-events-subscription") String subscriptionName,
+        @DefaultValue("1m") Duration patternDiscoveryPeriod,
+        @DefaultValue("1s") Duration redeliveryDelay) {
+
+    public TenantRegistryProperties {
+        tenants = tenants == null ? List.of() : List.copyOf(tenants);
+        if (patternDiscoveryPeriod.compareTo(Duration.ofSeconds(1)) < 0) {
+            throw new IllegalArgumentException("patternDiscoveryPeriod must be at least 1s: " + patternDiscoveryPeriod);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.vikthorvergara.pulsar.messaging.config;
+
+import com.vikthorvergara.pulsar.messaging.scheduling.TenantLimits;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "poc.tenant.scheduler")
+public record TenantSchedulerProperties(
+        @DefaultValue("16") int workers,
+        @DefaultValue("50") double rate,
+        @DefaultValue("20") int burst,
+        @DefaultValue("4") int maxConcurrency,
+        @DefaultValue("1") int weight,
+        @DefaultValue("64") int queueCapacity,
+        Map<String, TenantOverride> tenants) {
+
+    public TenantSchedulerProperties {
+        tenants = tenants == null ? Map.of() : Map.copyOf(tenants);
+    }
+
+    public TenantLimits limitsFor(String tenant) {
+        TenantOverride override = tenants.get(tenant);
+        if (override == null) {
+            return new TenantLimits(rate, burst, maxConcurrency, weight, queueCapacity);
+        }
+        return new TenantLimits(
+                override.rate() != null ? override.rate() : rate,
+                override.burst() != null ? override.burst() : burst,
+                override.maxConcurrency() != null ? override.maxConcurrency() : maxConcurrency,
+                override.weight() != null ? override.weight() : weight,
+                override.queueCapacity() != null ? override.queueCapacity() : queueCapacity);
+    }
+
+    public record TenantOverride(
+            Double rate,
+            Integer burst,
+            Integer maxConcurrency,
+            Integer weight,
+            Integer queueCapacity) {
+    }
+}
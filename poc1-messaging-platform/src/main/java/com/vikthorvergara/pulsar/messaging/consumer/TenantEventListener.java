@@ -1,53 +1,166 @@
 package com.vikthorvergara.pulsar.messaging.consumer;
 
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.messaging.config.TenantRegistryProperties;
+import com.vikthorvergara.pulsar.messaging.config.TenantSchedulerProperties;
 import com.vikthorvergara.pulsar.messaging.model.TenantEvent;
+import com.vikthorvergara.pulsar.messaging.scheduling.TenantFlowControl;
+import com.vikthorvergara.pulsar.messaging.scheduling.TenantScheduler;
+import com.vikthorvergara.pulsar.messaging.tenant.TenantDefinition;
+import com.vikthorvergara.pulsar.messaging.tenant.TenantRegistryListener;
+import jakarta.annotation.PreDestroy;
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.Schema;
 import org.apache.pulsar.client.api.SubscriptionType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.pulsar.annotation.PulsarListener;
+import org.springframework.pulsar.core.SchemaResolver;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @Component
-public class TenantEventListener {
+public class TenantEventListener implements TenantRegistryListener, TenantFlowControl {
 
     private static final Logger log = LoggerFactory.getLogger(TenantEventListener.class);
 
-    @PulsarListener(
-        topics = "persistent://healthcare/events/patient-events",
-        subscriptionName = "healthcare-subscription",
-        subscriptionType = SubscriptionType.Shared
-    )
-    public void handleHealthcareEvent(TenantEvent event) {
-        log.info("[HEALTHCARE] Received: {}", event);
-        processEvent(event);
-    }
-
-    @PulsarListener(
-        topics = "persistent://finance/events/transaction-events",
-        subscriptionName = "finance-subscription",
-        subscriptionType = SubscriptionType.Shared
-    )
-    public void handleFinanceEvent(TenantEvent event) {
-        log.info("[FINANCE] Received: {}", event);
-        processEvent(event);
-    }
-
-    @PulsarListener(
-        topics = "persistent://retail/events/order-events",
-        subscriptionName = "retail-subscription",
-        subscriptionType = SubscriptionType.Shared
-    )
-    public void handleRetailEvent(TenantEvent event) {
-        log.info("[RETAIL] Received: {}", event);
-        processEvent(event);
-    }
-
-    private void processEvent(TenantEvent event) {
+    private final PulsarClient pulsarClient;
+    private final Schema<TenantEvent> schema;
+    private final TenantRegistryProperties registryProperties;
+    private final TenantSchedulerProperties schedulerProperties;
+    private final TenantScheduler scheduler;
+    private final EventMetrics metrics;
+    private final Map<String, Object> subscriptions;
+    private final Map<String, Consumer<TenantEvent>> consumers;
+
+    public TenantEventListener(PulsarClient pulsarClient, SchemaResolver schemaResolver,
+                               TenantRegistryProperties registryProperties,
+                               TenantSchedulerProperties schedulerProperties,
+                               TenantScheduler scheduler, EventMetrics metrics) {
+        this.pulsarClient = pulsarClient;
+        this.schema = schemaResolver.<TenantEvent>resolveSchema(TenantEvent.class, true).orElseThrow();
+        this.registryProperties = registryProperties;
+        this.schedulerProperties = schedulerProperties;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.subscriptions = new HashMap<>();
+        this.consumers = new HashMap<>();
+    }
+
+    @Override
+    public void onTenantAdded(TenantDefinition tenant) {
+        var limits = schedulerProperties.limitsFor(tenant.id());
+        var subscription = new Object();
+        synchronized (this) {
+            subscriptions.put(tenant.id(), subscription);
+        }
+        pulsarClient.newConsumer(schema)
+            .topicsPattern(tenant.topicPattern())
+            .patternAutoDiscoveryPeriod((int) registryProperties.patternDiscoveryPeriod().toSeconds(), TimeUnit.SECONDS)
+            .subscriptionName(registryProperties.subscriptionName())
+            .subscriptionType(SubscriptionType.Shared)
+            .receiverQueueSize(Math.max(1, limits.queueCapacity() / 4))
+            .negativeAckRedeliveryDelay(registryProperties.redeliveryDelay().toMillis(), TimeUnit.MILLISECONDS)
+            .messageListener((consumer, message) -> schedule(tenant.id(), consumer, message))
+            .subscribeAsync()
+            .whenComplete((consumer, e) -> {
+                if (e != null) {
+                    log.error("Failed to subscribe tenant: id={}, pattern={}, error={}",
+                        tenant.id(), tenant.topicPattern(), e.getMessage());
+                    return;
+                }
+                if (!register(tenant.id(), subscription, consumer)) {
+                    consumer.closeAsync().whenComplete((ignored, closeError) -> scheduler.retire(tenant.id()));
+                    log.info("Closed consumer of removed tenant: id={}", tenant.id());
+                    return;
+                }
+                log.info("Subscribed tenant: id={}, pattern={}", tenant.id(), tenant.topicPattern());
+            });
+    }
+
+    @Override
+    public void onTenantRemoved(TenantDefinition tenant) {
+        Consumer<TenantEvent> consumer;
+        synchronized (this) {
+            subscriptions.remove(tenant.id());
+            consumer = consumers.remove(tenant.id());
+        }
+        if (consumer != null) {
+            consumer.closeAsync().whenComplete((ignored, e) -> scheduler.retire(tenant.id()));
+            log.info("Unsubscribed tenant: id={}", tenant.id());
+        }
+    }
+
+    @Override
+    public void pause(String tenant) {
+        var consumer = consumer(tenant);
+        if (consumer != null) {
+            consumer.pause();
+        }
+    }
+
+    @Override
+    public void resume(String tenant) {
+        var consumer = consumer(tenant);
+        if (consumer != null) {
+            consumer.resume();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        consumers.values().forEach(Consumer::closeAsync);
+        consumers.clear();
+        subscriptions.clear();
+    }
+
+    private synchronized boolean register(String tenant, Object subscription, Consumer<TenantEvent> consumer) {
+        if (subscriptions.get(tenant) != subscription) {
+            return false;
+        }
+        var previous = consumers.put(tenant, consumer);
+        if (previous != null) {
+            previous.closeAsync();
+        }
+        return true;
+    }
+
+    private synchronized Consumer<TenantEvent> consumer(String tenant) {
+        return consumers.get(tenant);
+    }
+
+    private void schedule(String tenant, Consumer<TenantEvent> consumer, Message<TenantEvent> message) {
+        TenantEvent event = message.getValue();
+        log.info("[{}] Received: {}", tenant, event);
+        boolean accepted = scheduler.offer(tenant, () -> {
+            try {
+                processEvent(tenant, event);
+                consumer.acknowledgeAsync(message);
+            } catch (RuntimeException e) {
+                log.error("Failed to process event {} for tenant {}", event.getId(), tenant, e);
+                consumer.negativeAcknowledge(message);
+            }
+        });
+        if (!accepted) {
+            log.debug("[{}] Queue full, redelivering: {}", tenant, event.getId());
+            consumer.negativeAcknowledge(message);
+        }
+    }
+
+    private void processEvent(String tenant, TenantEvent event) {
+        long start = System.nanoTime();
+        metrics.recordEndToEnd("tenant-event", event, "tenant", tenant);
         try {
             Thread.sleep(100);
             log.debug("Processed event {} for tenant {}", event.getEventName(), event.getTenantId());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+        } finally {
+            metrics.recordHandler("tenant-event", start, "tenant", tenant);
         }
     }
 }
@@ -1,10 +1,12 @@
 package com.vikthorvergara.pulsar.messaging.producer;
 
+import com.vikthorvergara.pulsar.common.producer.EventPublisher;
 import com.vikthorvergara.pulsar.messaging.model.TenantEvent;
+import com.vikthorvergara.pulsar.messaging.tenant.TenantDefinition;
+import com.vikthorvergara.pulsar.messaging.tenant.TenantRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.pulsar.core.PulsarTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.Executors;
@@ -15,10 +17,12 @@ public class MultiTenantProducer implements CommandLineRunner {
     private static final Logger log = LoggerFactory.getLogger(MultiTenantProducer.class);
     private static final ScopedValue<String> TENANT_ID = ScopedValue.newInstance();
 
-    private final PulsarTemplate pulsarTemplate;
+    private final EventPublisher eventPublisher;
+    private final TenantRegistry tenantRegistry;
 
-    public MultiTenantProducer(PulsarTemplate pulsarTemplate) {
-        this.pulsarTemplate = pulsarTemplate;
+    public MultiTenantProducer(EventPublisher eventPublisher, TenantRegistry tenantRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.tenantRegistry = tenantRegistry;
     }
 
     @Override
@@ -27,65 +31,38 @@ public class MultiTenantProducer implements CommandLineRunner {
 
         var executor = Executors.newVirtualThreadPerTaskExecutor();
 
-        executor.submit(() -> publishHealthcareEvents());
-        executor.submit(() -> publishFinanceEvents());
-        executor.submit(() -> publishRetailEvents());
+        for (TenantDefinition tenant : tenantRegistry.tenants()) {
+            executor.submit(() -> publishTenantEvents(tenant));
+        }
 
         Thread.sleep(5000);
         executor.shutdown();
     }
 
-    private void publishHealthcareEvents() {
-        ScopedValue.where(TENANT_ID, "healthcare").run(() -> {
+    private void publishTenantEvents(TenantDefinition tenant) {
+        ScopedValue.where(TENANT_ID, tenant.id()).run(() -> {
             for (int i = 1; i <= 5; i++) {
                 var event = new TenantEvent(
                     getTenantId(),
-                    "PatientRegistered",
-                    "Patient P" + i + " registered"
+                    tenant.eventName(),
+                    tenant.eventName() + " #" + i
                 );
-                sendEvent("persistent://healthcare/events/patient-events", event);
+                sendEvent(tenant.topicUrl(), event);
                 sleep(500);
             }
         });
     }
 
-    private void publishFinanceEvents() {
-        ScopedValue.where(TENANT_ID, "finance").run(() -> {
-            for (int i = 1; i <= 5; i++) {
-                var event = new TenantEvent(
-                    getTenantId(),
-                    "TransactionCreated",
-                    "Transaction T" + i + " created for $" + (i * 100)
-                );
-                sendEvent("persistent://finance/events/transaction-events", event);
-                sleep(500);
-            }
-        });
-    }
-
-    private void publishRetailEvents() {
-        ScopedValue.where(TENANT_ID, "retail").run(() -> {
-            for (int i = 1; i <= 5; i++) {
-                var event = new TenantEvent(
-                    getTenantId(),
-                    "OrderPlaced",
-                    "Order O" + i + " placed with " + (i + 2) + " items"
-                );
-                sendEvent("persistent://retail/events/order-events", event);
-                sleep(500);
+    private void sendEvent(String topic, TenantEvent event) {
+        eventPublisher.publish(topic, event, event.getId()).whenComplete((messageId, e) -> {
+            if (e != null) {
+                log.error("Failed to publish event", e);
+            } else {
+                log.info("Published event to {}: {}", topic, event);
             }
         });
     }
 
-    private void sendEvent(String topic, TenantEvent event) {
-        try {
-            pulsarTemplate.send(topic, event);
-            log.info("Published event to {}: {}", topic, event);
-        } catch (Exception e) {
-            log.error("Failed to publish event", e);
-        }
-    }
-
     private String getTenantId() {
         return TENANT_ID.get();
     }
@@ -0,0 +1,8 @@
+package com.vikthorvergara.pulsar.messaging.scheduling;
+
+public interface TenantFlowControl {
+
+    void pause(String tenant);
+
+    void resume(String tenant);
+}
@@ -0,0 +1,16 @@
+package com.vikthorvergara.pulsar.messaging.scheduling;
+
+public record TenantLimits(
+        double rate,
+        int burst,
+        int maxConcurrency,
+        int weight,
+        int queueCapacity) {
+
+    public TenantLimits {
+        if (maxConcurrency < 1 || weight < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException(
+                "maxConcurrency, weight and queueCapacity must be positive: " + maxConcurrency + ", " + weight + ", " + queueCapacity);
+        }
+    }
+}
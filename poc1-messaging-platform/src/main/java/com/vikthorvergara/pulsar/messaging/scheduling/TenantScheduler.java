@@ -0,0 +1,234 @@
+package com.vikthorvergara.pulsar.messaging.scheduling;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.messaging.config.TenantSchedulerProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TenantScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantScheduler.class);
+    private static final long STRIDE_BASE = 1L << 20;
+
+    private final TenantSchedulerProperties properties;
+    private final ObjectProvider<TenantFlowControl> flowControl;
+    private final EventMetrics metrics;
+    private final ExecutorService executor;
+    private final ReentrantLock lock;
+    private final Condition ready;
+    private final Map<String, TenantLane> lanes;
+    private final List<TenantLane> backlogged;
+    private long virtualTime;
+
+    public TenantScheduler(TenantSchedulerProperties properties, ObjectProvider<TenantFlowControl> flowControl,
+                           EventMetrics metrics) {
+        this.properties = properties;
+        this.flowControl = flowControl;
+        this.metrics = metrics;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.lock = new ReentrantLock();
+        this.ready = lock.newCondition();
+        this.lanes = new HashMap<>();
+        this.backlogged = new ArrayList<>();
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < properties.workers(); i++) {
+            executor.submit(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public boolean offer(String tenant, Runnable work) {
+        lock.lock();
+        try {
+            TenantLane lane = lane(tenant);
+            if (lane.queue.size() >= lane.limits.queueCapacity()) {
+                pause(lane);
+                metrics.increment("poc.tenant.refused", "tenant", tenant);
+                return false;
+            }
+            if (lane.queue.isEmpty()) {
+                lane.pass = Math.max(lane.pass, virtualTime);
+                backlogged.add(lane);
+            }
+            lane.queue.addLast(work);
+            lane.queued.incrementAndGet();
+            if (lane.queue.size() >= lane.highWatermark) {
+                pause(lane);
+            }
+            ready.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void retire(String tenant) {
+        lock.lock();
+        try {
+            TenantLane lane = lanes.get(tenant);
+            if (lane != null && lane.queue.isEmpty() && lane.inFlight == 0) {
+                lanes.remove(tenant);
+                metrics.removeGauge("poc.tenant.queued", "tenant", tenant);
+                log.info("Tenant lane retired: tenant={}", tenant);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void pause(TenantLane lane) {
+        if (lane.paused) {
+            return;
+        }
+        lane.paused = true;
+        flowControl.ifAvailable(control -> control.pause(lane.tenant));
+        metrics.increment("poc.tenant.paused", "tenant", lane.tenant);
+        log.warn("Tenant over budget, pausing consumer: tenant={}, queued={}", lane.tenant, lane.queue.size());
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Dispatch dispatch;
+            try {
+                dispatch = next();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                dispatch.work().run();
+            } catch (RuntimeException e) {
+                log.error("Tenant work failed: tenant={}, error={}", dispatch.lane().tenant, e.getMessage());
+            } finally {
+                complete(dispatch.lane());
+            }
+        }
+    }
+
+    private Dispatch next() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                TenantLane selected = null;
+                long wait = Long.MAX_VALUE;
+                for (TenantLane lane : backlogged) {
+                    if (lane.inFlight >= lane.limits.maxConcurrency()) {
+                        continue;
+                    }
+                    long tokenWait = lane.bucket.nanosUntilAvailable(now);
+                    if (tokenWait > 0) {
+                        wait = Math.min(wait, tokenWait);
+                        continue;
+                    }
+                    if (selected == null || lane.pass < selected.pass) {
+                        selected = lane;
+                    }
+                }
+                if (selected != null) {
+                    return dispatch(selected);
+                }
+                if (wait == Long.MAX_VALUE) {
+                    ready.await();
+                } else {
+                    ready.awaitNanos(wait);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Dispatch dispatch(TenantLane lane) {
+        lane.bucket.consume();
+        Runnable work = lane.queue.pollFirst();
+        lane.queued.decrementAndGet();
+        lane.inFlight++;
+        virtualTime = Math.max(virtualTime, lane.pass);
+        lane.pass += lane.stride;
+        if (lane.queue.isEmpty()) {
+            backlogged.remove(lane);
+        }
+        if (lane.paused && lane.queue.size() <= lane.lowWatermark) {
+            lane.paused = false;
+            flowControl.ifAvailable(control -> control.resume(lane.tenant));
+            log.info("Tenant back under budget, resuming consumer: tenant={}, queued={}", lane.tenant, lane.queue.size());
+        }
+        if (!backlogged.isEmpty()) {
+            ready.signal();
+        }
+        return new Dispatch(lane, work);
+    }
+
+    private void complete(TenantLane lane) {
+        lock.lock();
+        try {
+            lane.inFlight--;
+            ready.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TenantLane lane(String tenant) {
+        return lanes.computeIfAbsent(tenant, id -> {
+            var lane = new TenantLane(id, properties.limitsFor(id));
+            metrics.gauge("poc.tenant.queued", lane.queued::get, "tenant", id);
+            log.info("Tenant lane created: tenant={}, limits={}", id, lane.limits);
+            return lane;
+        });
+    }
+
+    private record Dispatch(TenantLane lane, Runnable work) {
+    }
+
+    private static final class TenantLane {
+
+        private final String tenant;
+        private final TenantLimits limits;
+        private final TokenBucket bucket;
+        private final ArrayDeque<Runnable> queue;
+        private final AtomicInteger queued;
+        private final long stride;
+        private final int highWatermark;
+        private final int lowWatermark;
+        private long pass;
+        private int inFlight;
+        private boolean paused;
+
+        private TenantLane(String tenant, TenantLimits limits) {
+            this.tenant = tenant;
+            this.limits = limits;
+            this.bucket = new TokenBucket(limits.rate(), limits.burst(), System.nanoTime());
+            this.queue = new ArrayDeque<>(limits.queueCapacity());
+            this.queued = new AtomicInteger();
+            this.stride = STRIDE_BASE / limits.weight();
+            this.highWatermark = Math.max(1, limits.queueCapacity() * 3 / 4);
+            this.lowWatermark = limits.queueCapacity() / 4;
+        }
+    }
+}
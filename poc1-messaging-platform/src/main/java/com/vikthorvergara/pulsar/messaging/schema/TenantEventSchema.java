@@ -0,0 +1,34 @@
+package com.vikthorvergara.pulsar.messaging.schema;
+
+import com.vikthorvergara.pulsar.common.schema.BaseEventSchema;
+import com.vikthorvergara.pulsar.common.schema.EventDecoder;
+import com.vikthorvergara.pulsar.common.schema.EventEncoder;
+import com.vikthorvergara.pulsar.messaging.model.TenantEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TenantEventSchema extends BaseEventSchema<TenantEvent> {
+
+    public TenantEventSchema() {
+        super(TenantEvent.class, 128);
+    }
+
+    @Override
+    protected TenantEvent newEvent() {
+        return new TenantEvent();
+    }
+
+    @Override
+    protected void writeBody(TenantEvent event, EventEncoder encoder) {
+        encoder.writeString(event.getTenantId());
+        encoder.writeString(event.getEventName());
+        encoder.writeString(event.getData());
+    }
+
+    @Override
+    protected void readBody(EventDecoder decoder, TenantEvent event) {
+        event.setTenantId(decoder.readString());
+        event.setEventName(decoder.readString());
+        event.setData(decoder.readString());
+    }
+}
@@ -0,0 +1,25 @@
+package com.vikthorvergara.pulsar.messaging.tenant;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+public record TenantDefinition(
+        String id,
+        @DefaultValue("events") String namespace,
+        String topic,
+        String eventName,
+        @DefaultValue("0") int partitions) {
+
+    public TenantDefinition {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Tenant id must not be blank");
+        }
+    }
+
+    public String topicUrl() {
+        return "persistent://" + id + "/" + namespace + "/" + topic;
+    }
+
+    public String topicPattern() {
+        return "persistent://" + id + "/" + namespace + "/.*";
+    }
+}
@@ -0,0 +1,34 @@
+package com.vikthorvergara.pulsar.messaging.tenant;
+
+import com.vikthorvergara.pulsar.common.producer.CachingProducerFactory;
+import com.vikthorvergara.pulsar.messaging.model.TenantEvent;
+import org.apache.pulsar.client.api.Schema;
+import org.springframework.pulsar.core.PulsarProducerFactory;
+import org.springframework.pulsar.core.SchemaResolver;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TenantProducerWarmer implements TenantRegistryListener {
+
+    private final PulsarProducerFactory<?> producerFactory;
+    private final Schema<TenantEvent> schema;
+
+    public TenantProducerWarmer(PulsarProducerFactory<?> producerFactory, SchemaResolver schemaResolver) {
+        this.producerFactory = producerFactory;
+        this.schema = schemaResolver.<TenantEvent>resolveSchema(TenantEvent.class, true).orElseThrow();
+    }
+
+    @Override
+    public void onTenantAdded(TenantDefinition tenant) {
+        if (producerFactory instanceof CachingProducerFactory cache) {
+            cache.warmUp(schema, tenant.topicUrl());
+        }
+    }
+
+    @Override
+    public void onTenantRemoved(TenantDefinition tenant) {
+        if (producerFactory instanceof CachingProducerFactory cache) {
+            cache.evict(tenant.topicUrl());
+        }
+    }
+}
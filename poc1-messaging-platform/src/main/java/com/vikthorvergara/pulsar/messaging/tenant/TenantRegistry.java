@@ -0,0 +1,136 @@
+package com.vikthorvergara.pulsar.messaging.tenant;
+
+import com.vikthorvergara.pulsar.messaging.config.TenantRegistryProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TenantRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRegistry.class);
+
+    private final TenantRegistryProperties properties;
+    private final List<TenantRegistryListener> listeners;
+    private final Map<String, TenantDefinition> tenants;
+    private final Path file;
+    private ScheduledExecutorService refresher;
+    private FileTime lastModified;
+
+    public TenantRegistry(TenantRegistryProperties properties, List<TenantRegistryListener> listeners) {
+        this.properties = properties;
+        this.listeners = listeners;
+        this.tenants = new ConcurrentHashMap<>();
+        this.file = properties.file() == null || properties.file().isBlank() ? null : Path.of(properties.file());
+    }
+
+    @PostConstruct
+    public void start() {
+        refresh();
+        if (file != null) {
+            refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("tenant-registry-refresher").daemon(true).factory());
+            long period = properties.refreshInterval().toMillis();
+            refresher.scheduleWithFixedDelay(this::refreshIfModified, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    public Collection<TenantDefinition> tenants() {
+        return List.copyOf(tenants.values());
+    }
+
+    public TenantDefinition get(String tenantId) {
+        return tenants.get(tenantId);
+    }
+
+    public synchronized void register(TenantDefinition tenant) {
+        TenantDefinition previous = tenants.put(tenant.id(), tenant);
+        if (tenant.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            listeners.forEach(listener -> listener.onTenantRemoved(previous));
+        }
+        log.info("Tenant registered: id={}, pattern={}", tenant.id(), tenant.topicPattern());
+        listeners.forEach(listener -> listener.onTenantAdded(tenant));
+    }
+
+    public synchronized void deregister(String tenantId) {
+        TenantDefinition removed = tenants.remove(tenantId);
+        if (removed != null) {
+            log.info("Tenant deregistered: id={}", tenantId);
+            listeners.forEach(listener -> listener.onTenantRemoved(removed));
+        }
+    }
+
+    private synchronized void refresh() {
+        var desired = new LinkedHashMap<String, TenantDefinition>();
+        properties.tenants().forEach(tenant -> desired.put(tenant.id(), tenant));
+        if (file != null) {
+            loadFile().forEach(tenant -> desired.put(tenant.id(), tenant));
+        }
+
+        for (String tenantId : List.copyOf(tenants.keySet())) {
+            if (!desired.containsKey(tenantId)) {
+                deregister(tenantId);
+            }
+        }
+        desired.values().forEach(this::register);
+    }
+
+    private void refreshIfModified() {
+        try {
+            FileTime modified = Files.exists(file) ? Files.getLastModifiedTime(file) : null;
+            if (Objects.equals(modified, lastModified)) {
+                return;
+            }
+            refresh();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to refresh tenant registry: file={}, error={}", file, e.getMessage());
+        }
+    }
+
+    private List<TenantDefinition> loadFile() {
+        try {
+            if (!Files.exists(file)) {
+                lastModified = null;
+                return List.of();
+            }
+            lastModified = Files.getLastModifiedTime(file);
+            var sources = new YamlPropertySourceLoader().load(file.toString(), new FileSystemResource(file));
+            return new Binder(ConfigurationPropertySources.from(sources))
+                .bind("tenants", Bindable.listOf(TenantDefinition.class))
+                .orElse(List.of());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load tenant registry file: " + file, e);
+        }
+    }
+}
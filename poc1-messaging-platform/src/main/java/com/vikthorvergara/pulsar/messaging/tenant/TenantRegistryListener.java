@@ -0,0 +1,8 @@
+package com.vikthorvergara.pulsar.messaging.tenant;
+
+public interface TenantRegistryListener {
+
+    void onTenantAdded(TenantDefinition tenant);
+
+    void onTenantRemoved(TenantDefinition tenant);
+}
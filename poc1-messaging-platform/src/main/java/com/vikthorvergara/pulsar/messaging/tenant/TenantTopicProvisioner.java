@@ -0,0 +1,28 @@
+package com.vikthorvergara.pulsar.messaging.tenant;
+
+import com.vikthorvergara.pulsar.common.partition.PartitionedTopicProvisioner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TenantTopicProvisioner implements TenantRegistryListener {
+
+    private final PartitionedTopicProvisioner provisioner;
+
+    public TenantTopicProvisioner(PartitionedTopicProvisioner provisioner) {
+        this.provisioner = provisioner;
+    }
+
+    @Override
+    public void onTenantAdded(TenantDefinition tenant) {
+        if (tenant.partitions() > 0) {
+            provisioner.provision(tenant.topicUrl(), tenant.partitions());
+        }
+    }
+
+    @Override
+    public void onTenantRemoved(TenantDefinition tenant) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.vikthorvergara.pulsar.taskqueue.consumer;
+
+import com.vikthorvergara.pulsar.common.audit.AuditLog;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.support.SimulatedLatency;
+import com.vikthorvergara.pulsar.taskqueue.model.Task;
+import com.vikthorvergara.pulsar.taskqueue.model.TaskTopics;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.pulsar.annotation.PulsarListener;
+import org.springframework.pulsar.listener.AckMode;
+import org.springframework.pulsar.listener.Acknowledgement;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+
+@Component
+@ConditionalOnProperty(name = "poc.task.worker.mode", havingValue = "batch")
+public class BatchTaskWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchTaskWorker.class);
+
+    private final SimulatedLatency latency;
+    private final AuditLog auditLog;
+    private final EventMetrics metrics;
+    private final int maxConcurrency;
+
+    public BatchTaskWorker(SimulatedLatency latency, AuditLog auditLog, EventMetrics metrics,
+                           @Value("${poc.task.worker.batch-concurrency:16}") int maxConcurrency) {
+        this.latency = latency;
+        this.auditLog = auditLog;
+        this.metrics = metrics;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @PulsarListener(
+        id = "batch-task-worker",
+        topics = {TaskTopics.HIGH_PRIORITY, TaskTopics.NORMAL_PRIORITY, TaskTopics.LOW_PRIORITY},
+        subscriptionName = "task-worker-subscription",
+        subscriptionType = SubscriptionType.Shared,
+        batch = true,
+        ackMode = AckMode.MANUAL
+    )
+    public void processTasks(List<Message<Task>> messages, Acknowledgement acknowledgement) {
+        log.info("Worker received task batch: size={}", messages.size());
+        long start = System.nanoTime();
+
+        var toAck = new ArrayList<MessageId>(messages.size());
+        var accepted = new ArrayList<Task>(messages.size());
+        var acceptedIds = new ArrayList<MessageId>(messages.size());
+
+        for (Message<Task> message : messages) {
+            Task task = message.getValue();
+            metrics.recordEndToEnd("task", task, "type", task.getTaskType());
+            if (task.getTaskType() == null || task.getPayload() == null) {
+                log.error("Task processing failed: id={}, type={}, error=Invalid task data",
+                    task.getId(), task.getTaskType());
+                task.setStatus("FAILED");
+                auditLog.append("task", task.getId(), task.getStatus(), task.getTaskType());
+                toAck.add(message.getMessageId());
+            } else {
+                accepted.add(task);
+                acceptedIds.add(message.getMessageId());
+            }
+        }
+
+        var failed = new ArrayList<MessageId>();
+        var permits = new Semaphore(maxConcurrency);
+
+        try (var scope = StructuredTaskScope.open(StructuredTaskScope.Joiner.<String>awaitAll())) {
+            var executions = new ArrayList<Subtask<String>>(accepted.size());
+            for (Task task : accepted) {
+                executions.add(scope.fork(() -> executeTask(task, permits)));
+            }
+
+            scope.join();
+
+            for (int i = 0; i < accepted.size(); i++) {
+                Task task = accepted.get(i);
+                Subtask<String> execution = executions.get(i);
+                if (execution.state() == Subtask.State.SUCCESS) {
+                    toAck.add(acceptedIds.get(i));
+                } else {
+                    log.error("Task processing failed: id={}, type={}, error={}",
+                        task.getId(), task.getTaskType(), failureMessage(execution));
+                    task.setStatus("FAILED");
+                    failed.add(acceptedIds.get(i));
+                }
+                auditLog.append("task", task.getId(), task.getStatus(), task.getTaskType());
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Task batch interrupted: size={}", messages.size());
+            failed.addAll(acceptedIds);
+        }
+
+        if (!toAck.isEmpty()) {
+            acknowledgement.acknowledge(toAck);
+        }
+        failed.forEach(acknowledgement::nack);
+        metrics.recordHandler("task-batch", start);
+
+        log.info("Task batch completed: acked={}, nacked={}", toAck.size(), failed.size());
+    }
+
+    private String executeTask(Task task, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            log.debug("Executing task: id={}, type={}", task.getId(), task.getTaskType());
+            latency.pause(TaskProcessor.processingTime(task.getTaskType()));
+            task.setStatus("COMPLETED");
+            return "SUCCESS";
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static String failureMessage(Subtask<?> subtask) {
+        return subtask.state() == Subtask.State.FAILED ? subtask.exception().getMessage() : "cancelled";
+    }
+}
@@ -0,0 +1,101 @@
+package com.vikthorvergara.pulsar.taskqueue.consumer;
+
+import com.vikthorvergara.pulsar.common.audit.AuditLog;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.support.SimulatedLatency;
+import com.vikthorvergara.pulsar.taskqueue.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.StructuredTaskScope;
+
+@Component
+public class TaskProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskProcessor.class);
+
+    private final SimulatedLatency latency;
+    private final AuditLog auditLog;
+    private final EventMetrics metrics;
+
+    public TaskProcessor(SimulatedLatency latency, AuditLog auditLog, EventMetrics metrics) {
+        this.latency = latency;
+        this.auditLog = auditLog;
+        this.metrics = metrics;
+    }
+
+    public boolean process(Task task) {
+        long start = System.nanoTime();
+        metrics.recordEndToEnd("task", task, "type", task.getTaskType());
+        boolean completed = execute(task);
+        auditLog.append("task", task.getId(), task.getStatus(), task.getTaskType());
+        metrics.recordHandler("task", start,
+            "type", task.getTaskType(), "outcome", completed ? "completed" : "failed");
+        return completed;
+    }
+
+    private boolean execute(Task task) {
+        try (var scope = StructuredTaskScope.open()) {
+            var validationTask = scope.fork(() -> validateTask(task));
+            var executionTask = scope.fork(() -> executeTask(task));
+
+            scope.join();
+
+            validationTask.get();
+            executionTask.get();
+
+            log.info("Task completed successfully: id={}, type={}",
+                task.getId(), task.getTaskType());
+            return true;
+
+        } catch (Exception e) {
+            log.error("Task processing failed: id={}, type={}, error={}",
+                task.getId(), task.getTaskType(), e.getMessage());
+            task.setStatus("FAILED");
+            return false;
+        }
+    }
+
+    private Boolean validateTask(Task task) {
+        try {
+            log.debug("Validating task: id={}", task.getId());
+            latency.pause(50);
+
+            if (task.getTaskType() == null || task.getPayload() == null) {
+                throw new IllegalArgumentException("Invalid task data");
+            }
+
+            log.debug("Task validation passed: id={}", task.getId());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Validation interrupted", e);
+        }
+    }
+
+    private String executeTask(Task task) {
+        try {
+            log.debug("Executing task: id={}, type={}", task.getId(), task.getTaskType());
+
+            latency.pause(processingTime(task.getTaskType()));
+
+            task.setStatus("COMPLETED");
+            log.debug("Task execution completed: id={}", task.getId());
+            return "SUCCESS";
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Execution interrupted", e);
+        }
+    }
+
+    static long processingTime(String taskType) {
+        return switch (taskType) {
+            case "EMAIL" -> 200;
+            case "REPORT" -> 300;
+            case "BACKUP" -> 400;
+            default -> 100;
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.vikthorvergara.pulsar.taskqueue.dispatch;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class PriorityTaskBuffer<T> {
+
+    private static final long STRIDE_BASE = 1L << 20;
+
+    private final ArrayDeque<Entry<T>>[] queues;
+    private final long[] strides;
+    private final long[] passes;
+    private final int capacityPerBand;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition[] notFull;
+    private long virtualTime;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public PriorityTaskBuffer(int[] weights, int capacityPerBand, Duration maxWait) {
+        int bands = weights.length;
+        this.queues = new ArrayDeque[bands];
+        this.strides = new long[bands];
+        this.passes = new long[bands];
+        this.capacityPerBand = capacityPerBand;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = new Condition[bands];
+        for (int band = 0; band < bands; band++) {
+            queues[band] = new ArrayDeque<>(capacityPerBand);
+            strides[band] = STRIDE_BASE / weights[band];
+            notFull[band] = lock.newCondition();
+        }
+    }
+
+    public void put(int band, T item) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            var queue = queues[band];
+            while (queue.size() >= capacityPerBand) {
+                notFull[band].await();
+            }
+            if (queue.isEmpty()) {
+                passes[band] = Math.max(passes[band], virtualTime);
+            }
+            queue.addLast(new Entry<>(item, System.nanoTime()));
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public T poll(Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size(int band) {
+        lock.lock();
+        try {
+            return queues[band].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private T dequeue() {
+        int band = selectBand(System.nanoTime());
+        var entry = queues[band].pollFirst();
+        size--;
+        virtualTime = Math.max(virtualTime, passes[band]);
+        passes[band] += strides[band];
+        notFull[band].signal();
+        return entry.item();
+    }
+
+    private int selectBand(long now) {
+        int starved = -1;
+        long oldest = Long.MAX_VALUE;
+        int fairest = -1;
+        for (int band = 0; band < queues.length; band++) {
+            var head = queues[band].peekFirst();
+            if (head == null) {
+                continue;
+            }
+            if (now - head.enqueuedNanos() >= maxWaitNanos && head.enqueuedNanos() < oldest) {
+                starved = band;
+                oldest = head.enqueuedNanos();
+            }
+            if (fairest < 0 || passes[band] < passes[fairest]) {
+                fairest = band;
+            }
+        }
+        return starved >= 0 ? starved : fairest;
+    }
+
+    private record Entry<T>(T item, long enqueuedNanos) {
+    }
+}
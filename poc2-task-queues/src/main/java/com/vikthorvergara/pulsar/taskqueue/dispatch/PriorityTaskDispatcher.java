@@ -0,0 +1,124 @@
+package com.vikthorvergara.pulsar.taskqueue.dispatch;
+
+import com.vikthorvergara.pulsar.taskqueue.consumer.TaskProcessor;
+import com.vikthorvergara.pulsar.taskqueue.model.PriorityBand;
+import com.vikthorvergara.pulsar.taskqueue.model.Task;
+import com.vikthorvergara.pulsar.taskqueue.model.TaskTopics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.pulsar.annotation.PulsarListener;
+import org.springframework.pulsar.listener.AckMode;
+import org.springframework.pulsar.listener.Acknowledgement;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+@ConditionalOnProperty(name = "poc.task.worker.mode", havingValue = "priority", matchIfMissing = true)
+public class PriorityTaskDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(PriorityTaskDispatcher.class);
+
+    private final TaskProcessor taskProcessor;
+    private final PriorityTaskBuffer<PendingTask> buffer;
+    private final int workers;
+    private final ExecutorService executor;
+
+    public PriorityTaskDispatcher(TaskProcessor taskProcessor,
+                                  @Value("${poc.task.dispatch.workers:8}") int workers,
+                                  @Value("${poc.task.dispatch.buffer-capacity:64}") int bufferCapacity,
+                                  @Value("${poc.task.dispatch.max-wait:2s}") Duration maxWait) {
+        this.taskProcessor = taskProcessor;
+        this.workers = workers;
+        int[] weights = Arrays.stream(PriorityBand.values()).mapToInt(PriorityBand::weight).toArray();
+        this.buffer = new PriorityTaskBuffer<>(weights, bufferCapacity, maxWait);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @PulsarListener(
+        topics = TaskTopics.HIGH_PRIORITY,
+        subscriptionName = "task-worker-subscription",
+        subscriptionType = SubscriptionType.Shared,
+        ackMode = AckMode.MANUAL
+    )
+    public void receiveHighPriority(Task task, Acknowledgement acknowledgement) {
+        enqueue(PriorityBand.HIGH, task, acknowledgement);
+    }
+
+    @PulsarListener(
+        topics = TaskTopics.NORMAL_PRIORITY,
+        subscriptionName = "task-worker-subscription",
+        subscriptionType = SubscriptionType.Shared,
+        ackMode = AckMode.MANUAL
+    )
+    public void receiveNormalPriority(Task task, Acknowledgement acknowledgement) {
+        enqueue(PriorityBand.NORMAL, task, acknowledgement);
+    }
+
+    @PulsarListener(
+        topics = TaskTopics.LOW_PRIORITY,
+        subscriptionName = "task-worker-subscription",
+        subscriptionType = SubscriptionType.Shared,
+        ackMode = AckMode.MANUAL
+    )
+    public void receiveLowPriority(Task task, Acknowledgement acknowledgement) {
+        enqueue(PriorityBand.LOW, task, acknowledgement);
+    }
+
+    private void enqueue(PriorityBand band, Task task, Acknowledgement acknowledgement) {
+        log.info("Worker buffered task: band={}, type={}, priority={}, id={}",
+            band, task.getTaskType(), task.getPriority(), task.getId());
+        try {
+            buffer.put(band.ordinal(), new PendingTask(task, acknowledgement));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acknowledgement.nack();
+        }
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            PendingTask pending;
+            try {
+                pending = buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                if (taskProcessor.process(pending.task())) {
+                    pending.acknowledgement().acknowledge();
+                } else {
+                    pending.acknowledgement().nack();
+                }
+            } catch (Exception e) {
+                log.error("Task dispatch failed: id={}, error={}", pending.task().getId(), e.getMessage());
+                pending.acknowledgement().nack();
+            }
+        }
+    }
+
+    private record PendingTask(Task task, Acknowledgement acknowledgement) {
+    }
+}
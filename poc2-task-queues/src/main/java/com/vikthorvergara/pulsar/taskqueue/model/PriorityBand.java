@@ -0,0 +1,35 @@
+package com.vikthorvergara.pulsar.taskqueue.model;
+
+public enum PriorityBand {
+
+    HIGH(TaskTopics.HIGH_PRIORITY, 8, 6),
+    NORMAL(TaskTopics.NORMAL_PRIORITY, 4, 3),
+    LOW(TaskTopics.LOW_PRIORITY, Integer.MIN_VALUE, 1);
+
+    private final String topic;
+    private final int minPriority;
+    private final int weight;
+
+    PriorityBand(String topic, int minPriority, int weight) {
+        this.topic = topic;
+        this.minPriority = minPriority;
+        this.weight = weight;
+    }
+
+    public static PriorityBand of(int priority) {
+        for (PriorityBand band : values()) {
+            if (priority >= band.minPriority) {
+                return band;
+            }
+        }
+        return LOW;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public int weight() {
+        return weight;
+    }
+}
@@ -0,0 +1,11 @@
+package com.vikthorvergara.pulsar.taskqueue.model;
+
+public final class TaskTopics {
+
+    public static final String HIGH_PRIORITY = "persistent://public/default/task-queue-high";
+    public static final String NORMAL_PRIORITY = "persistent://public/default/task-queue-normal";
+    public static final String LOW_PRIORITY = "persistent://public/default/task-queue-low";
+
+    private TaskTopics() {
+    }
+}
@@ -1,10 +1,11 @@
 package com.vikthorvergara.pulsar.taskqueue.producer;
 
+import com.vikthorvergara.pulsar.common.producer.EventPublisher;
+import com.vikthorvergara.pulsar.taskqueue.model.PriorityBand;
 import com.vikthorvergara.pulsar.taskqueue.model.Task;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.pulsar.core.PulsarTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.Executors;
@@ -13,12 +14,11 @@ import java.util.concurrent.Executors;
 public class TaskProducer implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(TaskProducer.class);
-    private static final String TASK_TOPIC = "persistent://public/default/task-queue";
 
-    private final PulsarTemplate pulsarTemplate;
+    private final EventPublisher eventPublisher;
 
-    public TaskProducer(PulsarTemplate pulsarTemplate) {
-        this.pulsarTemplate = pulsarTemplate;
+    public TaskProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -51,12 +51,14 @@ public class TaskProducer implements CommandLineRunner {
             priority
         );
 
-        try {
-            pulsarTemplate.send(TASK_TOPIC, task);
-            log.info("Produced task: type={}, priority={}, payload={}",
-                task.getTaskType(), task.getPriority(), task.getPayload());
-        } catch (Exception e) {
-            log.error("Failed to produce task", e);
-        }
+        String topic = PriorityBand.of(task.getPriority()).topic();
+        eventPublisher.publish(topic, task, task.getId()).whenComplete((messageId, e) -> {
+            if (e != null) {
+                log.error("Failed to produce task", e);
+            } else {
+                log.info("Produced task: type={}, priority={}, payload={}",
+                    task.getTaskType(), task.getPriority(), task.getPayload());
+            }
+        });
     }
 }
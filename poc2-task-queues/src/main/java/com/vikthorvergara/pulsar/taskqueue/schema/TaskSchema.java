@@ -0,0 +1,38 @@
+package com.vikthorvergara.pulsar.taskqueue.schema;
+
+import com.vikthorvergara.pulsar.common.schema.BaseEventSchema;
+import com.vikthorvergara.pulsar.common.schema.EventDecoder;
+import com.vikthorvergara.pulsar.common.schema.EventEncoder;
+import com.vikthorvergara.pulsar.taskqueue.model.Task;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskSchema extends BaseEventSchema<Task> {
+
+    public TaskSchema() {
+        super(Task.class, 96);
+    }
+
+    @Override
+    protected Task newEvent() {
+        return new Task();
+    }
+
+    @Override
+    protected void writeBody(Task task, EventEncoder encoder) {
+        encoder.writeString(task.getTaskType());
+        encoder.writeString(task.getPayload());
+        encoder.writeSignedVarInt(task.getPriority());
+        encoder.writeString(task.getStatus());
+        encoder.writeSignedVarInt(task.getRetryCount());
+    }
+
+    @Override
+    protected void readBody(EventDecoder decoder, Task task) {
+        task.setTaskType(decoder.readString());
+        task.setPayload(decoder.readString());
+        task.setPriority(decoder.readSignedVarInt());
+        task.setStatus(decoder.readString());
+        task.setRetryCount(decoder.readSignedVarInt());
+    }
+}
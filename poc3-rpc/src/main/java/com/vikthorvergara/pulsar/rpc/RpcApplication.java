@@ -1,7 +1,10 @@
 package com.vikthorvergara.pulsar.rpc;
 
+import com.vikthorvergara.pulsar.rpc.config.BulkheadProperties;
+import com.vikthorvergara.pulsar.rpc.config.ResultCacheProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.pulsar.annotation.EnablePulsar;
 
 @SpringBootApplication(scanBasePackages = {
@@ -9,6 +12,7 @@ import org.springframework.pulsar.annotation.EnablePulsar;
     "com.vikthorvergara.pulsar.common"
 })
 @EnablePulsar
+@EnableConfigurationProperties({ResultCacheProperties.class, BulkheadProperties.class})
 public class RpcApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,67 @@
+package com.vikthorvergara.pulsar.rpc.bulkhead;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class Bulkhead {
+
+    private final String name;
+    private final Semaphore admission;
+    private final Semaphore permits;
+    private final AtomicInteger active;
+
+    Bulkhead(String name, int maxConcurrent, int maxQueued) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("Bulkhead " + name
+                + " needs maxConcurrent >= 1 and maxQueued >= 0: " + maxConcurrent + ", " + maxQueued);
+        }
+        this.name = name;
+        this.admission = new Semaphore(maxConcurrent + maxQueued);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.active = new AtomicInteger();
+    }
+
+    boolean tryExecute(Executor executor, Runnable task) {
+        if (!admission.tryAcquire()) {
+            return false;
+        }
+        try {
+            executor.execute(() -> run(task));
+            return true;
+        } catch (RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            admission.release();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+            admission.release();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    int active() {
+        return active.get();
+    }
+
+    int queued() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,54 @@
+package com.vikthorvergara.pulsar.rpc.bulkhead;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.rpc.config.BulkheadProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class OperationBulkheads {
+
+    static final String DEFAULT = "default";
+
+    private final Map<String, Bulkhead> bulkheads;
+    private final Bulkhead fallback;
+    private final ExecutorService executor;
+    private final EventMetrics metrics;
+
+    public OperationBulkheads(BulkheadProperties properties, EventMetrics metrics) {
+        this.bulkheads = Stream.concat(Stream.of("CALCULATE", "QUERY", "TRANSFORM"),
+                properties.operations().keySet().stream())
+            .filter(operation -> !operation.equals(DEFAULT))
+            .distinct()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), operation ->
+                new Bulkhead(operation, properties.maxConcurrentFor(operation), properties.maxQueuedFor(operation))));
+        this.fallback = new Bulkhead(DEFAULT, properties.maxConcurrentFor(DEFAULT), properties.maxQueuedFor(DEFAULT));
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("rpc-operation-", 0).factory());
+        this.metrics = metrics;
+        Stream.concat(bulkheads.values().stream(), Stream.of(fallback)).forEach(bulkhead -> {
+            metrics.gauge("poc.rpc.bulkhead.active", bulkhead::active, "operation", bulkhead.name());
+            metrics.gauge("poc.rpc.bulkhead.queued", bulkhead::queued, "operation", bulkhead.name());
+        });
+    }
+
+    public boolean tryDispatch(String operation, Runnable task) {
+        Bulkhead bulkhead = operation == null ? fallback : bulkheads.getOrDefault(operation, fallback);
+        if (bulkhead.tryExecute(executor, task)) {
+            return true;
+        }
+        metrics.increment("poc.rpc.bulkhead.rejected", "operation", bulkhead.name());
+        return false;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,63 @@
+package com.vikthorvergara.pulsar.rpc.cache;
+
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+        0x97CB3127B3E0F5A1L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0x9E3779B97F4A7C15L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[][] rows;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int counters = Integer.highestOneBit(Math.max(16, maximumSize - 1) << 1);
+        this.rows = new long[DEPTH][counters >>> 4];
+        this.counterMask = counters - 1;
+        this.sampleSize = 10 * Math.max(1, maximumSize);
+    }
+
+    void increment(long hash) {
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int counter = counterIndex(hash, row);
+            int slot = counter >>> 4;
+            int shift = (counter & 15) << 2;
+            if (((rows[row][slot] >>> shift) & 0xFL) != 0xFL) {
+                rows[row][slot] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(long hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int counter = counterIndex(hash, row);
+            int count = (int) ((rows[row][counter >>> 4] >>> ((counter & 15) << 2)) & 0xFL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    private int counterIndex(long hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    private void reset() {
+        for (long[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (row[i] >>> 1) & RESET_MASK;
+            }
+        }
+        additions >>>= 1;
+    }
+}
@@ -0,0 +1,263 @@
+package com.vikthorvergara.pulsar.rpc.cache;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.rpc.config.ResultCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class ResultCache {
+
+    private final boolean enabled;
+    private final Map<String, Duration> ttls;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final int mainCapacity;
+    private final EventMetrics metrics;
+    private final ReentrantLock lock;
+    private final Map<Key, Node> entries;
+    private final FrequencySketch sketch;
+    private final AccessQueue window;
+    private final AccessQueue probation;
+    private final AccessQueue protectedQueue;
+    private final Map<Key, CompletableFuture<String>> inFlight;
+
+    public ResultCache(ResultCacheProperties properties, EventMetrics metrics) {
+        this.enabled = properties.enabled();
+        this.ttls = properties.ttl();
+        int maximumSize = properties.maximumSize();
+        this.windowCapacity = Math.max(1, maximumSize / 100);
+        this.mainCapacity = Math.max(1, maximumSize - windowCapacity);
+        this.protectedCapacity = Math.max(1, mainCapacity * 4 / 5);
+        this.metrics = metrics;
+        this.lock = new ReentrantLock();
+        this.entries = new HashMap<>();
+        this.sketch = new FrequencySketch(maximumSize);
+        this.window = new AccessQueue();
+        this.probation = new AccessQueue();
+        this.protectedQueue = new AccessQueue();
+        this.inFlight = new ConcurrentHashMap<>();
+        metrics.gauge("poc.rpc.cache.size", this::size);
+    }
+
+    public String get(String operation, String payload, Callable<String> loader) throws Exception {
+        Duration ttl = ttls.get(operation);
+        if (!enabled || ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return loader.call();
+        }
+
+        var key = new Key(operation, payload);
+        String cached = lookup(key, true);
+        if (cached != null) {
+            metrics.increment("poc.rpc.cache.hits", "operation", operation);
+            return cached;
+        }
+
+        var flight = new CompletableFuture<String>();
+        CompletableFuture<String> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            metrics.increment("poc.rpc.cache.coalesced", "operation", operation);
+            return await(leader);
+        }
+
+        try {
+            cached = lookup(key, false);
+            if (cached != null) {
+                metrics.increment("poc.rpc.cache.hits", "operation", operation);
+                flight.complete(cached);
+                return cached;
+            }
+            metrics.increment("poc.rpc.cache.misses", "operation", operation);
+            String value = loader.call();
+            if (value != null) {
+                store(key, value, ttl);
+            }
+            flight.complete(value);
+            return value;
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String await(CompletableFuture<String> leader) throws Exception {
+        try {
+            return leader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String lookup(Key key, boolean recordAccess) {
+        lock.lock();
+        try {
+            if (recordAccess) {
+                sketch.increment(spread(key.hashCode()));
+            }
+            Node node = entries.get(key);
+            if (node == null) {
+                return null;
+            }
+            if (node.expiresAtNanos - System.nanoTime() <= 0) {
+                remove(node);
+                metrics.increment("poc.rpc.cache.evictions", "reason", "expired");
+                return null;
+            }
+            onAccess(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(Key key, String value, Duration ttl) {
+        long expiresAt = System.nanoTime() + ttl.toNanos();
+        lock.lock();
+        try {
+            Node node = entries.get(key);
+            if (node != null) {
+                node.value = value;
+                node.expiresAtNanos = expiresAt;
+                onAccess(node);
+                return;
+            }
+            node = new Node(key, spread(key.hashCode()), value, expiresAt);
+            entries.put(key, node);
+            node.queue = window;
+            window.addLast(node);
+            if (window.size > windowCapacity) {
+                Node candidate = window.removeFirst();
+                candidate.queue = probation;
+                probation.addLast(candidate);
+                if (probation.size + protectedQueue.size > mainCapacity) {
+                    evict(candidate);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onAccess(Node node) {
+        if (node.queue == probation) {
+            probation.remove(node);
+            node.queue = protectedQueue;
+            protectedQueue.addLast(node);
+            if (protectedQueue.size > protectedCapacity) {
+                Node demoted = protectedQueue.removeFirst();
+                demoted.queue = probation;
+                probation.addLast(demoted);
+            }
+        } else {
+            node.queue.moveToLast(node);
+        }
+    }
+
+    private void evict(Node candidate) {
+        Node victim = probation.first();
+        if (victim == candidate) {
+            victim = protectedQueue.first();
+        }
+        Node evicted = victim != null && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)
+            ? victim
+            : candidate;
+        remove(evicted);
+        metrics.increment("poc.rpc.cache.evictions", "reason", "size");
+    }
+
+    private void remove(Node node) {
+        node.queue.remove(node);
+        entries.remove(node.key);
+    }
+
+    private static long spread(int hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private record Key(String operation, String payload) {
+    }
+
+    private static final class Node {
+
+        private final Key key;
+        private final long hash;
+        private String value;
+        private long expiresAtNanos;
+        private AccessQueue queue;
+        private Node prev;
+        private Node next;
+
+        private Node(Key key, long hash, String value, long expiresAtNanos) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private static final class AccessQueue {
+
+        private final Node head;
+        private int size;
+
+        private AccessQueue() {
+            this.head = new Node(null, 0, null, 0);
+            head.prev = head;
+            head.next = head;
+        }
+
+        private Node first() {
+            return head.next == head ? null : head.next;
+        }
+
+        private void addLast(Node node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+            size++;
+        }
+
+        private Node removeFirst() {
+            Node node = head.next;
+            remove(node);
+            return node;
+        }
+
+        private void remove(Node node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        private void moveToLast(Node node) {
+            remove(node);
+            addLast(node);
+        }
+    }
+}
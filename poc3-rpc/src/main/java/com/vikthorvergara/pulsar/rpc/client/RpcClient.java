@@ -0,0 +1,141 @@
+package com.vikthorvergara.pulsar.rpc.client;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.model.EventIds;
+import com.vikthorvergara.pulsar.rpc.model.RpcRequest;
+import com.vikthorvergara.pulsar.rpc.model.RpcResponse;
+import jakarta.annotation.PreDestroy;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.pulsar.annotation.PulsarListener;
+import org.springframework.pulsar.core.PulsarTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class RpcClient {
+
+    private static final Logger log = LoggerFactory.getLogger(RpcClient.class);
+    private static final String REQUEST_TOPIC = "persistent://public/default/rpc-requests";
+    private static final String REPLY_TOPIC_PREFIX = "non-persistent://public/default/rpc-replies-";
+
+    private final PulsarTemplate pulsarTemplate;
+    private final String instanceId;
+    private final String replyTopic;
+    private final Duration timeout;
+    private final ConcurrentHashMap<String, CompletableFuture<RpcResponse>> pendingRequests;
+    private final TimeoutWheel timeoutWheel;
+    private final EventMetrics metrics;
+
+    public RpcClient(PulsarTemplate pulsarTemplate, EventMetrics metrics,
+                     @Value("${poc.rpc.client.instance-id:}") String instanceId,
+                     @Value("${poc.rpc.client.timeout:5s}") Duration timeout,
+                     @Value("${poc.rpc.client.timeout-tick:50ms}") Duration timeoutTick) {
+        this.pulsarTemplate = pulsarTemplate;
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : instanceId;
+        this.replyTopic = REPLY_TOPIC_PREFIX + this.instanceId;
+        this.timeout = timeout;
+        this.pendingRequests = new ConcurrentHashMap<>();
+        this.timeoutWheel = new TimeoutWheel("rpc-timeout-wheel", timeoutTick, 512, this::expire);
+        this.metrics = metrics;
+        metrics.gauge("poc.rpc.pending", pendingRequests::size, "instance", this.instanceId);
+    }
+
+    public CompletableFuture<RpcResponse> call(String operation, String payload) {
+        return call(operation, payload, timeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<RpcResponse> call(String operation, String payload, Duration callTimeout) {
+        String requestId = EventIds.next();
+        var request = new RpcRequest(requestId, operation, payload, replyTopic);
+
+        var responseFuture = new CompletableFuture<RpcResponse>();
+        pendingRequests.put(requestId, responseFuture);
+        timeoutWheel.schedule(requestId, callTimeout);
+
+        long start = System.nanoTime();
+        responseFuture.whenComplete((response, e) -> metrics.recordHandler("rpc-call", start,
+            "operation", operation, "outcome", outcome(response, e)));
+
+        log.info("Sending RPC request: id={}, operation={}", requestId, operation);
+        CompletableFuture<MessageId> send = pulsarTemplate.sendAsync(REQUEST_TOPIC, request);
+        send.whenComplete((messageId, e) -> {
+            metrics.recordSend(REQUEST_TOPIC, start, e);
+            if (e != null) {
+                var future = pendingRequests.remove(requestId);
+                if (future != null) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+
+        return responseFuture;
+    }
+
+    @PulsarListener(
+        topics = "#{__listener.replyTopic}",
+        subscriptionName = "#{__listener.replySubscription}",
+        subscriptionType = SubscriptionType.Exclusive
+    )
+    public void handleResponse(RpcResponse response) {
+        log.debug("Received response for request: id={}", response.getRequestId());
+        metrics.recordEndToEnd("rpc-response", response);
+
+        var future = pendingRequests.remove(response.getRequestId());
+        if (future != null) {
+            future.complete(response);
+        } else {
+            log.warn("Late response after timeout: id={}", response.getRequestId());
+        }
+    }
+
+    public String getReplyTopic() {
+        return replyTopic;
+    }
+
+    public String getReplySubscription() {
+        return "rpc-client-" + instanceId;
+    }
+
+    public int getPendingCount() {
+        return pendingRequests.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        timeoutWheel.close();
+        pendingRequests.forEach((requestId, future) ->
+            future.completeExceptionally(new CancellationException("RPC client shutting down")));
+        pendingRequests.clear();
+    }
+
+    private static String outcome(RpcResponse response, Throwable e) {
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e != null) {
+            return "error";
+        }
+        if (response.isBusy()) {
+            return "busy";
+        }
+        return response.isSuccess() ? "success" : "failure";
+    }
+
+    private void expire(String requestId) {
+        var future = pendingRequests.remove(requestId);
+        if (future != null) {
+            future.completeExceptionally(new TimeoutException("RPC timeout: id=" + requestId));
+        }
+    }
+}
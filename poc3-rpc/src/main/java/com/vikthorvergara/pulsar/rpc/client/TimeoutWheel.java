@@ -0,0 +1,106 @@
+package com.vikthorvergara.pulsar.rpc.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+public class TimeoutWheel implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeoutWheel.class);
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] buckets;
+    private final Queue<Timeout> inbox;
+    private final Consumer<String> onExpire;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService ticker;
+    private final long startNanos;
+    private long currentTick;
+
+    public TimeoutWheel(String name, Duration tick, int wheelSize, Consumer<String> onExpire) {
+        this(tick, wheelSize, onExpire, System::nanoTime,
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(name).daemon(true).factory()));
+        this.ticker.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    TimeoutWheel(Duration tick, int wheelSize, Consumer<String> onExpire, LongSupplier clock) {
+        this(tick, wheelSize, onExpire, clock, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TimeoutWheel(Duration tick, int wheelSize, Consumer<String> onExpire, LongSupplier clock,
+                         ScheduledExecutorService ticker) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickNanos = tick.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.inbox = new ConcurrentLinkedQueue<>();
+        this.onExpire = onExpire;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.ticker = ticker;
+    }
+
+    public void schedule(String key, Duration timeout) {
+        inbox.add(new Timeout(key, clock.getAsLong() + timeout.toNanos()));
+    }
+
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    void tick() {
+        try {
+            long now = clock.getAsLong();
+            long targetTick = (now - startNanos) / tickNanos;
+            transferInbox();
+            while (currentTick <= targetTick) {
+                expireBucket(buckets[(int) (currentTick & mask)], now);
+                currentTick++;
+            }
+        } catch (Exception e) {
+            log.error("Timeout wheel tick failed", e);
+        }
+    }
+
+    private void transferInbox() {
+        Timeout timeout;
+        while ((timeout = inbox.poll()) != null) {
+            long deadlineTick = Math.ceilDiv(timeout.deadlineNanos() - startNanos, tickNanos);
+            buckets[(int) (Math.max(deadlineTick, currentTick) & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(ArrayDeque<Timeout> bucket, long now) {
+        int size = bucket.size();
+        for (int i = 0; i < size; i++) {
+            Timeout timeout = bucket.poll();
+            if (timeout.deadlineNanos() - now <= 0) {
+                onExpire.accept(timeout.key());
+            } else {
+                bucket.add(timeout);
+            }
+        }
+    }
+
+    private record Timeout(String key, long deadlineNanos) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.vikthorvergara.pulsar.rpc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "poc.rpc.bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("8") int maxConcurrent,
+        @DefaultValue("32") int maxQueued,
+        Map<String, OperationOverride> operations) {
+
+    public BulkheadProperties {
+        operations = operations == null ? Map.of() : Map.copyOf(operations);
+    }
+
+    public int maxConcurrentFor(String operation) {
+        OperationOverride override = operations.get(operation);
+        return override != null && override.maxConcurrent() != null ? override.maxConcurrent() : maxConcurrent;
+    }
+
+    public int maxQueuedFor(String operation) {
+        OperationOverride override = operations.get(operation);
+        return override != null && override.maxQueued() != null ? override.maxQueued() : maxQueued;
+    }
+
+    public record OperationOverride(
+            Integer maxConcurrent,
+            Integer maxQueued) {
+    }
+}
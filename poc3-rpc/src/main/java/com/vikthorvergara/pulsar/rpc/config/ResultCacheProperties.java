@@ -0,0 +1,21 @@
+package com.vikthorvergara.pulsar.rpc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "poc.rpc.cache")
+public record ResultCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maximumSize,
+        Map<String, Duration> ttl) {
+
+    public ResultCacheProperties {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        ttl = ttl == null ? Map.of() : Map.copyOf(ttl);
+    }
+}
@@ -8,6 +8,7 @@ public class RpcResponse extends BaseEvent {
     private String result;
     private String error;
     private boolean success;
+    private boolean busy;
 
     public RpcResponse() {
         super();
@@ -28,6 +29,12 @@ public class RpcResponse extends BaseEvent {
         this.success = success;
     }
 
+    public static RpcResponse busy(String requestId, String operation) {
+        var response = new RpcResponse(requestId, "Busy: " + operation + " is at capacity", false);
+        response.setBusy(true);
+        return response;
+    }
+
     public String getRequestId() {
         return requestId;
     }
@@ -59,4 +66,12 @@ public class RpcResponse extends BaseEvent {
     public void setSuccess(boolean success) {
         this.success = success;
     }
+
+    public boolean isBusy() {
+        return busy;
+    }
+
+    public void setBusy(boolean busy) {
+        this.busy = busy;
+    }
 }
@@ -0,0 +1,36 @@
+package com.vikthorvergara.pulsar.rpc.schema;
+
+import com.vikthorvergara.pulsar.common.schema.BaseEventSchema;
+import com.vikthorvergara.pulsar.common.schema.EventDecoder;
+import com.vikthorvergara.pulsar.common.schema.EventEncoder;
+import com.vikthorvergara.pulsar.rpc.model.RpcRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RpcRequestSchema extends BaseEventSchema<RpcRequest> {
+
+    public RpcRequestSchema() {
+        super(RpcRequest.class, 128);
+    }
+
+    @Override
+    protected RpcRequest newEvent() {
+        return new RpcRequest();
+    }
+
+    @Override
+    protected void writeBody(RpcRequest request, EventEncoder encoder) {
+        encoder.writeId(request.getRequestId());
+        encoder.writeString(request.getOperation());
+        encoder.writeString(request.getPayload());
+        encoder.writeString(request.getReplyTo());
+    }
+
+    @Override
+    protected void readBody(EventDecoder decoder, RpcRequest request) {
+        request.setRequestId(decoder.readId());
+        request.setOperation(decoder.readString());
+        request.setPayload(decoder.readString());
+        request.setReplyTo(decoder.readString());
+    }
+}
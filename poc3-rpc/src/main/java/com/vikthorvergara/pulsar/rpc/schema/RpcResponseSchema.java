@@ -0,0 +1,38 @@
+package com.vikthorvergara.pulsar.rpc.schema;
+
+import com.vikthorvergara.pulsar.common.schema.BaseEventSchema;
+import com.vikthorvergara.pulsar.common.schema.EventDecoder;
+import com.vikthorvergara.pulsar.common.schema.EventEncoder;
+import com.vikthorvergara.pulsar.rpc.model.RpcResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RpcResponseSchema extends BaseEventSchema<RpcResponse> {
+
+    public RpcResponseSchema() {
+        super(RpcResponse.class, 96);
+    }
+
+    @Override
+    protected RpcResponse newEvent() {
+        return new RpcResponse();
+    }
+
+    @Override
+    protected void writeBody(RpcResponse response, EventEncoder encoder) {
+        encoder.writeId(response.getRequestId());
+        encoder.writeBoolean(response.isSuccess());
+        encoder.writeString(response.getResult());
+        encoder.writeString(response.getError());
+        encoder.writeBoolean(response.isBusy());
+    }
+
+    @Override
+    protected void readBody(EventDecoder decoder, RpcResponse response) {
+        response.setRequestId(decoder.readId());
+        response.setSuccess(decoder.readBoolean());
+        response.setResult(decoder.readString());
+        response.setError(decoder.readString());
+        response.setBusy(decoder.hasRemaining() && decoder.readBoolean());
+    }
+}
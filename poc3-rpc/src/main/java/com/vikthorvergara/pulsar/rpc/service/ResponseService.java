@@ -1,7 +1,12 @@
 package com.vikthorvergara.pulsar.rpc.service;
 
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.rpc.bulkhead.OperationBulkheads;
+import com.vikthorvergara.pulsar.rpc.cache.ResultCache;
 import com.vikthorvergara.pulsar.rpc.model.RpcRequest;
 import com.vikthorvergara.pulsar.rpc.model.RpcResponse;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.SubscriptionType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,35 +14,53 @@ import org.springframework.pulsar.annotation.PulsarListener;
 import org.springframework.pulsar.core.PulsarTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class ResponseService {
 
     private static final Logger log = LoggerFactory.getLogger(ResponseService.class);
 
     private final PulsarTemplate pulsarTemplate;
+    private final ResultCache resultCache;
+    private final OperationBulkheads bulkheads;
+    private final EventMetrics metrics;
 
-    public ResponseService(PulsarTemplate pulsarTemplate) {
+    public ResponseService(PulsarTemplate pulsarTemplate, ResultCache resultCache,
+                           OperationBulkheads bulkheads, EventMetrics metrics) {
         this.pulsarTemplate = pulsarTemplate;
+        this.resultCache = resultCache;
+        this.bulkheads = bulkheads;
+        this.metrics = metrics;
     }
 
     @PulsarListener(
         topics = "persistent://public/default/rpc-requests",
         subscriptionName = "rpc-server-subscription",
-        subscriptionType = SubscriptionType.Shared,
-        concurrency = "2"
+        subscriptionType = SubscriptionType.Shared
     )
     public void handleRequest(RpcRequest request) {
         log.info("Processing RPC request: id={}, operation={}",
             request.getRequestId(), request.getOperation());
+        long start = System.nanoTime();
+        metrics.recordEndToEnd("rpc-request", request, "operation", request.getOperation());
+
+        if (!bulkheads.tryDispatch(request.getOperation(), () -> process(request, start))) {
+            rejectBusy(request, start);
+        }
+    }
 
+    private void process(RpcRequest request, long start) {
         try {
-            String result = processOperation(request);
+            String result = resultCache.get(request.getOperation(), request.getPayload(),
+                () -> processOperation(request));
 
             var response = new RpcResponse(request.getRequestId(), result);
 
-            pulsarTemplate.send(request.getReplyTo(), response);
+            sendReply(request, response);
 
             log.info("Sent response for request: id={}", request.getRequestId());
+            metrics.recordHandler("rpc-request", start, "operation", request.getOperation(), "outcome", "success");
 
         } catch (Exception e) {
             log.error("Failed to process request: id={}, error={}",
@@ -50,10 +73,39 @@ public class ResponseService {
             );
 
             try {
-                pulsarTemplate.send(request.getReplyTo(), errorResponse);
+                sendReply(request, errorResponse);
             } catch (Exception sendError) {
                 log.error("Failed to send error response", sendError);
             }
+            metrics.recordHandler("rpc-request", start, "operation", request.getOperation(), "outcome", "error");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rejectBusy(RpcRequest request, long start) {
+        log.warn("Rejected busy RPC request: id={}, operation={}",
+            request.getRequestId(), request.getOperation());
+        long sendStart = System.nanoTime();
+        CompletableFuture<MessageId> send = pulsarTemplate.sendAsync(request.getReplyTo(),
+            RpcResponse.busy(request.getRequestId(), request.getOperation()));
+        send.whenComplete((messageId, e) -> {
+            metrics.recordSend(request.getReplyTo(), sendStart, e);
+            if (e != null) {
+                log.error("Failed to send busy response: id={}", request.getRequestId(), e);
+            }
+        });
+        metrics.recordHandler("rpc-request", start, "operation", request.getOperation(), "outcome", "busy");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sendReply(RpcRequest request, RpcResponse response) throws PulsarClientException {
+        long start = System.nanoTime();
+        try {
+            pulsarTemplate.send(request.getReplyTo(), response);
+            metrics.recordSend(request.getReplyTo(), start, null);
+        } catch (PulsarClientException e) {
+            metrics.recordSend(request.getReplyTo(), start, e);
+            throw e;
         }
     }
 
@@ -0,0 +1,46 @@
+package com.vikthorvergara.pulsar.rpc.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrequencySketchTest {
+
+    private static final int MAXIMUM_SIZE = 1024;
+
+    private final FrequencySketch sketch = new FrequencySketch(MAXIMUM_SIZE);
+
+    @Test
+    void estimatesHowOftenEachKeyWasSeen() {
+        increment(1L, 8);
+        increment(2L, 1);
+
+        assertThat(sketch.frequency(1L)).isEqualTo(8);
+        assertThat(sketch.frequency(2L)).isEqualTo(1);
+        assertThat(sketch.frequency(3L)).isZero();
+    }
+
+    @Test
+    void saturatesAtFifteen() {
+        increment(1L, 40);
+
+        assertThat(sketch.frequency(1L)).isEqualTo(15);
+    }
+
+    @Test
+    void halvesEveryCounterAfterTheSamplePeriod() {
+        increment(1L, 15);
+
+        for (long key = 2; key < 20 * MAXIMUM_SIZE && sketch.frequency(1L) == 15; key++) {
+            sketch.increment(key * 0x9E3779B97F4A7C15L);
+        }
+
+        assertThat(sketch.frequency(1L)).isEqualTo(7);
+    }
+
+    private void increment(long hash, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.increment(hash);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.vikthorvergara.pulsar.rpc.cache;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.rpc.config.ResultCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultCacheTest {
+
+    private static final String OPERATION = "lookup";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, Integer> loads = new HashMap<>();
+
+    private ResultCache cache(int maximumSize, Duration ttl) {
+        var properties = new ResultCacheProperties(true, maximumSize, Map.of(OPERATION, ttl));
+        return new ResultCache(properties, new EventMetrics(registry));
+    }
+
+    private String get(ResultCache cache, String payload) throws Exception {
+        return cache.get(OPERATION, payload, () -> {
+            loads.merge(payload, 1, Integer::sum);
+            return "result-" + payload;
+        });
+    }
+
+    @Test
+    void servesRepeatedRequestsFromTheCache() throws Exception {
+        var cache = cache(10, Duration.ofMinutes(1));
+
+        assertThat(get(cache, "a")).isEqualTo("result-a");
+        assertThat(get(cache, "a")).isEqualTo("result-a");
+
+        assertThat(loads).containsEntry("a", 1);
+        assertThat(registry.counter("poc.rpc.cache.hits", "operation", OPERATION).count()).isEqualTo(1);
+        assertThat(registry.counter("poc.rpc.cache.misses", "operation", OPERATION).count()).isEqualTo(1);
+    }
+
+    @Test
+    void bypassesOperationsWithoutTtl() throws Exception {
+        var cache = cache(10, Duration.ofMinutes(1));
+
+        cache.get("other", "a", () -> "x");
+        cache.get("other", "a", () -> "x");
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void reloadsExpiredEntries() throws Exception {
+        var cache = cache(10, Duration.ofNanos(1));
+
+        get(cache, "a");
+        get(cache, "a");
+
+        assertThat(loads).containsEntry("a", 2);
+        assertThat(registry.counter("poc.rpc.cache.evictions", "reason", "expired").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsFrequentEntriesThroughAScanOfOneHitKeys() throws Exception {
+        var cache = cache(10, Duration.ofMinutes(1));
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 9; i++) {
+                get(cache, "hot-" + i);
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            get(cache, "scan-" + i);
+        }
+
+        for (int i = 0; i < 9; i++) {
+            get(cache, "hot-" + i);
+            assertThat(loads).containsEntry("hot-" + i, 1);
+        }
+        assertThat(cache.size()).isEqualTo(10);
+    }
+
+    @Test
+    void admitsACandidateSeenMoreOftenThanTheVictim() throws Exception {
+        var cache = cache(10, Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) {
+            get(cache, "cold-" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            get(cache, "popular");
+        }
+
+        get(cache, "newcomer");
+        get(cache, "popular");
+
+        assertThat(loads).containsEntry("popular", 1);
+        assertThat(cache.size()).isEqualTo(10);
+        get(cache, "cold-0");
+        get(cache, "cold-1");
+        assertThat(loads.get("cold-0") + loads.get("cold-1")).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsACandidateSeenLessOftenThanTheVictim() throws Exception {
+        var cache = cache(10, Duration.ofMinutes(1));
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 9; i++) {
+                get(cache, "resident-" + i);
+            }
+        }
+
+        get(cache, "first");
+        get(cache, "second");
+
+        assertThat(registry.counter("poc.rpc.cache.evictions", "reason", "size").count()).isEqualTo(1);
+        for (int i = 0; i < 9; i++) {
+            get(cache, "resident-" + i);
+            assertThat(loads).containsEntry("resident-" + i, 1);
+        }
+        get(cache, "first");
+        assertThat(loads).containsEntry("first", 2);
+    }
+}
@@ -0,0 +1,85 @@
+package com.vikthorvergara.pulsar.rpc.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeoutWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(50);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final Map<String, Long> expiredAtMillis = new LinkedHashMap<>();
+    private final long origin = clock.get();
+
+    private TimeoutWheel wheel(int wheelSize) {
+        return new TimeoutWheel(TICK, wheelSize, key ->
+            expiredAtMillis.put(key, Duration.ofNanos(clock.get() - origin).toMillis()), clock::get);
+    }
+
+    private void advance(TimeoutWheel wheel, Duration duration) {
+        long target = clock.get() + duration.toNanos();
+        long tick = TICK.toNanos();
+        for (long next = origin + ((clock.get() - origin) / tick + 1) * tick; next <= target; next += tick) {
+            clock.set(next);
+            wheel.tick();
+        }
+        clock.set(target);
+    }
+
+    @Test
+    void expiresOnTheTickThatReachesTheDeadline() {
+        var wheel = wheel(512);
+        wheel.schedule("request-1", Duration.ofSeconds(5));
+
+        advance(wheel, Duration.ofMillis(4950));
+        assertThat(expiredAtMillis).isEmpty();
+
+        advance(wheel, TICK);
+        assertThat(expiredAtMillis).containsEntry("request-1", 5000L);
+    }
+
+    @Test
+    void expiresOnTheNextTickWhenDeadlineFallsBetweenTicks() {
+        var wheel = wheel(512);
+        clock.addAndGet(Duration.ofMillis(20).toNanos());
+        wheel.schedule("request-1", Duration.ofSeconds(5));
+
+        advance(wheel, Duration.ofSeconds(6));
+
+        assertThat(expiredAtMillis).containsEntry("request-1", 5050L);
+    }
+
+    @Test
+    void keepsTimeoutsLongerThanOneRotationForLaterRounds() {
+        var wheel = wheel(8);
+        wheel.schedule("short", Duration.ofMillis(150));
+        wheel.schedule("long", Duration.ofMillis(1000));
+
+        advance(wheel, Duration.ofSeconds(2));
+
+        assertThat(expiredAtMillis).containsEntry("short", 150L).containsEntry("long", 1000L);
+    }
+
+    @Test
+    void expiresOverdueTimeoutsAfterAStalledTicker() {
+        var wheel = wheel(16);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            keys.add("request-" + i);
+            wheel.schedule("request-" + i, Duration.ofMillis(100 + i * 50));
+        }
+
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        wheel.tick();
+
+        assertThat(expiredAtMillis).containsOnlyKeys(keys);
+    }
+}
@@ -0,0 +1,36 @@
+package com.vikthorvergara.pulsar.missioncritical.api;
+
+import com.vikthorvergara.pulsar.missioncritical.store.PaymentState;
+import com.vikthorvergara.pulsar.missioncritical.store.PaymentStateStore;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/payments")
+public class PaymentStateController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final PaymentStateStore stateStore;
+
+    public PaymentStateController(PaymentStateStore stateStore) {
+        this.stateStore = stateStore;
+    }
+
+    @GetMapping("/{paymentId}")
+    public ResponseEntity<PaymentState> byId(@PathVariable String paymentId) {
+        return ResponseEntity.of(stateStore.find(paymentId));
+    }
+
+    @GetMapping(params = "merchantId")
+    public List<PaymentState> byMerchant(@RequestParam String merchantId,
+                                         @RequestParam(defaultValue = "100") int limit) {
+        return stateStore.findByMerchant(merchantId, Math.clamp(limit, 1, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,78 @@
+package com.vikthorvergara.pulsar.missioncritical.consumer;
+
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentKey;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentTopics;
+import jakarta.annotation.PreDestroy;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.pulsar.annotation.PulsarListener;
+import org.springframework.pulsar.listener.AckMode;
+import org.springframework.pulsar.listener.Acknowledgement;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+@Component
+@ConditionalOnProperty(name = "poc.payment.processor.mode", havingValue = "key-shared")
+public class KeySharedPaymentListener {
+
+    private static final Logger log = LoggerFactory.getLogger(KeySharedPaymentListener.class);
+
+    private final PaymentProcessor paymentProcessor;
+    private final PaymentKey paymentKey;
+    private final ExecutorService[] lanes;
+    private final Semaphore inFlight;
+
+    public KeySharedPaymentListener(PaymentProcessor paymentProcessor,
+                                    @Value("${poc.payment.key:MERCHANT}") PaymentKey paymentKey,
+                                    @Value("${poc.payment.processor.lanes:16}") int laneCount,
+                                    @Value("${poc.payment.processor.max-in-flight:256}") int maxInFlight) {
+        this.paymentProcessor = paymentProcessor;
+        this.paymentKey = paymentKey;
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("payment-lane-" + i).factory());
+        }
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @PulsarListener(
+        topics = PaymentTopics.TRANSACTIONS,
+        subscriptionName = "payment-processor-subscription",
+        subscriptionType = SubscriptionType.Key_Shared,
+        ackMode = AckMode.MANUAL,
+        concurrency = "${poc.payment.processor.consumers:4}"
+    )
+    public void receivePayment(Message<Payment> message, Acknowledgement acknowledgement) throws InterruptedException {
+        Payment payment = message.getValue();
+        String key = message.hasKey() ? message.getKey() : paymentKey.of(payment);
+        int lane = Math.floorMod(key.hashCode(), lanes.length);
+
+        inFlight.acquire();
+        lanes[lane].execute(() -> {
+            try {
+                paymentProcessor.processPayment(payment);
+                acknowledgement.acknowledge();
+            } catch (Exception e) {
+                log.error("Payment lane failed: id={}, lane={}, error={}", payment.getId(), lane, e.getMessage());
+                acknowledgement.nack();
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdownNow();
+        }
+    }
+}
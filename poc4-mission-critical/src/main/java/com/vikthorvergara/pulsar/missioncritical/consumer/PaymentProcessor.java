@@ -1,115 +1,182 @@
 package com.vikthorvergara.pulsar.missioncritical.consumer;
 
+import com.vikthorvergara.pulsar.common.audit.AuditLog;
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.support.SimulatedLatency;
+import com.vikthorvergara.pulsar.missioncritical.dedup.Claim;
+import com.vikthorvergara.pulsar.missioncritical.dedup.PaymentDeduplicator;
+import com.vikthorvergara.pulsar.missioncritical.model.CurrencyUnit;
 import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentTopics;
+import com.vikthorvergara.pulsar.missioncritical.retry.PaymentRetryScheduler;
+import com.vikthorvergara.pulsar.missioncritical.status.PaymentStatusPublisher;
+import com.vikthorvergara.pulsar.missioncritical.store.PaymentStateStore;
+import com.vikthorvergara.pulsar.missioncritical.transaction.PaymentTransaction;
+import com.vikthorvergara.pulsar.missioncritical.validation.PaymentValidator;
+import com.vikthorvergara.pulsar.missioncritical.validation.Rejection;
+import com.vikthorvergara.pulsar.missioncritical.validation.RejectionJoiner;
+import com.vikthorvergara.pulsar.missioncritical.validation.ValidationRule;
 import org.apache.pulsar.client.api.SubscriptionType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.pulsar.annotation.PulsarListener;
-import org.springframework.pulsar.core.PulsarTemplate;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Component
 public class PaymentProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentProcessor.class);
-    private static final String PAYMENT_TOPIC = "persistent://public/default/payment-transactions";
 
-    private final PulsarTemplate pulsarTemplate;
+    private final PaymentRetryScheduler retryScheduler;
+    private final PaymentDeduplicator deduplicator;
+    private final PaymentValidator validator;
+    private final PaymentStateStore stateStore;
+    private final PaymentStatusPublisher statusPublisher;
+    private final AuditLog auditLog;
+    private final boolean durableAudit;
+    private final Duration auditTimeout;
+    private final SimulatedLatency latency;
+    private final EventMetrics metrics;
 
-    public PaymentProcessor(PulsarTemplate pulsarTemplate) {
-        this.pulsarTemplate = pulsarTemplate;
+    public PaymentProcessor(PaymentRetryScheduler retryScheduler, PaymentDeduplicator deduplicator,
+                            PaymentValidator validator, PaymentStateStore stateStore,
+                            PaymentStatusPublisher statusPublisher, AuditLog auditLog,
+                            @Value("${poc.payment.audit.durable:true}") boolean durableAudit,
+                            @Value("${poc.payment.audit.timeout:5s}") Duration auditTimeout,
+                            SimulatedLatency latency, EventMetrics metrics) {
+        this.retryScheduler = retryScheduler;
+        this.deduplicator = deduplicator;
+        this.validator = validator;
+        this.stateStore = stateStore;
+        this.statusPublisher = statusPublisher;
+        this.auditLog = auditLog;
+        this.durableAudit = durableAudit;
+        this.auditTimeout = auditTimeout;
+        this.latency = latency;
+        this.metrics = metrics;
     }
 
     @PulsarListener(
-        topics = PAYMENT_TOPIC,
+        topics = PaymentTopics.TRANSACTIONS,
         subscriptionName = "payment-processor-subscription",
         subscriptionType = SubscriptionType.Failover,
-        concurrency = "1"
+        concurrency = "1",
+        autoStartup = "#{'${poc.payment.processor.mode:failover}' == 'failover'}"
     )
     public void processPayment(Payment payment) {
-        log.info("Processor received payment: id={}, merchant={}, amount={} {}, retry={}",
-            payment.getId(), payment.getMerchantId(),
-            payment.getAmount(), payment.getCurrency(), payment.getRetryCount());
+        Claim claim = deduplicator.tryClaim(payment.getId());
+        if (claim == Claim.PROCESSED) {
+            log.warn("Duplicate payment skipped: id={}, merchant={}",
+                payment.getId(), payment.getMerchantId());
+            metrics.increment("poc.payment.duplicates", "merchant", payment.getMerchantId());
+            return;
+        }
+        if (claim == Claim.IN_FLIGHT) {
+            log.warn("Payment already in flight, redelivering later: id={}, merchant={}",
+                payment.getId(), payment.getMerchantId());
+            metrics.increment("poc.payment.in-flight-redeliveries", "merchant", payment.getMerchantId());
+            throw new IllegalStateException("Payment already in flight: id=" + payment.getId());
+        }
+
+        long start = System.nanoTime();
+        metrics.recordEndToEnd("payment", payment, "merchant", payment.getMerchantId());
+        try {
+            process(payment);
+            recordStatus(payment);
+            if (isTerminal(payment)) {
+                markProcessed(payment);
+            }
+        } finally {
+            releaseClaim(payment.getId());
+            metrics.recordHandler("payment", start,
+                "merchant", payment.getMerchantId(), "status", payment.getStatus());
+        }
+    }
+
+    private void process(Payment payment) {
+        if (attempt(payment)) {
+            auditPayment(payment);
+        } else {
+            handleProcessingFailure(payment);
+        }
+    }
+
+    private boolean attempt(Payment payment) {
+        log.info("Processor received payment: id={}, merchant={}, amountMinorUnits={}, currency={}, retry={}",
+            payment.getId(), payment.getMerchantId(), payment.getAmountMinorUnits(), payment.getCurrency(),
+            payment.getRetryCount());
 
         payment.setStatus("PROCESSING");
         payment.setLastAttemptTimestamp(Instant.now());
+        recordStatus(payment);
 
-        try (var scope = StructuredTaskScope.open()) {
-            var validationTask = scope.fork(() -> validatePayment(payment));
-            var processingTask = scope.fork(() -> processTransaction(payment));
-            var auditTask = scope.fork(() -> auditPayment(payment));
+        try {
+            Rejection rejection = validator.validateInline(payment);
+            if (rejection != null) {
+                reject(payment, rejection);
+                return true;
+            }
 
-            scope.join();
+            try (var scope = StructuredTaskScope.open(new RejectionJoiner())) {
+                for (ValidationRule rule : validator.forkedRules()) {
+                    scope.fork(() -> rule.check(payment));
+                }
+                var processingTask = scope.fork(() -> processTransaction(payment));
 
-            Boolean isValid = validationTask.get();
-            String processingResult = processingTask.get();
-            auditTask.get();
+                rejection = scope.join();
 
-            if (!isValid) {
-                payment.setStatus("REJECTED");
-                log.warn("Payment rejected: id={}, reason={}",
-                    payment.getId(), payment.getFailureReason());
-                return;
-            }
+                if (rejection != null) {
+                    reject(payment, rejection);
+                    return true;
+                }
 
-            if (processingResult == null || !processingResult.equals("SUCCESS")) {
-                handleProcessingFailure(payment);
-                return;
+                String processingResult = processingTask.get();
+                if (processingResult == null || !processingResult.equals("SUCCESS")) {
+                    return false;
+                }
             }
 
             payment.setStatus("COMPLETED");
             payment.setCompletionTimestamp(Instant.now());
-            log.info("Payment completed successfully: id={}, merchant={}, amount={} {}",
-                payment.getId(), payment.getMerchantId(),
-                payment.getAmount(), payment.getCurrency());
+            log.info("Payment completed successfully: id={}, merchant={}, amount={}",
+                payment.getId(), payment.getMerchantId(), payment.amount());
+            return true;
 
         } catch (Exception e) {
             log.error("Payment processing failed: id={}, error={}",
                 payment.getId(), e.getMessage());
-            handleProcessingFailure(payment);
+            return false;
         }
     }
 
-    private Boolean validatePayment(Payment payment) {
-        try {
-            log.debug("Validating payment: id={}", payment.getId());
-            Thread.sleep(50);
-
-            if (payment.getAmount() == null || payment.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
-                payment.setFailureReason("Invalid amount");
-                return false;
-            }
-
-            if (payment.getAmount().compareTo(new BigDecimal("10000")) > 0) {
-                payment.setFailureReason("Amount exceeds limit");
-                return false;
-            }
-
-            if (payment.getMerchantId() == null || payment.getCustomerId() == null) {
-                payment.setFailureReason("Invalid merchant or customer");
-                return false;
-            }
-
-            log.debug("Payment validation passed: id={}", payment.getId());
-            return true;
+    private void recordStatus(Payment payment) {
+        stateStore.record(payment);
+        statusPublisher.publish(payment);
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Validation interrupted", e);
-        }
+    private void reject(Payment payment, Rejection rejection) {
+        payment.setStatus("REJECTED");
+        payment.setFailureReason(rejection.reason());
+        metrics.increment("poc.payment.rejections", "rule", rejection.rule());
+        log.warn("Payment rejected: id={}, rule={}, reason={}",
+            payment.getId(), rejection.rule(), rejection.reason());
     }
 
     private String processTransaction(Payment payment) {
         try {
-            log.debug("Processing payment transaction: id={}, amount={}",
-                payment.getId(), payment.getAmount());
+            log.debug("Processing payment transaction: id={}, amountMinorUnits={}",
+                payment.getId(), payment.getAmountMinorUnits());
 
-            long processingTime = getProcessingTime(payment.getAmount());
-            Thread.sleep(processingTime);
+            long processingTime = getProcessingTime(payment);
+            latency.pause(processingTime);
 
             log.debug("Payment transaction completed: id={}", payment.getId());
             return "SUCCESS";
@@ -120,48 +187,83 @@ public class PaymentProcessor {
         }
     }
 
-    private long getProcessingTime(BigDecimal amount) {
-        if (amount.compareTo(new BigDecimal("100")) < 0) {
+    private long getProcessingTime(Payment payment) {
+        CurrencyUnit unit = CurrencyUnit.of(payment.getCurrency());
+        long minorPerMajor = unit != null ? unit.minorPerMajor() : 1;
+        long amount = payment.getAmountMinorUnits();
+        if (amount < 100 * minorPerMajor) {
             return 100;
-        } else if (amount.compareTo(new BigDecimal("1000")) < 0) {
+        } else if (amount < 1000 * minorPerMajor) {
             return 250;
         } else {
             return 400;
         }
     }
 
-    private Void auditPayment(Payment payment) {
+    private void auditPayment(Payment payment) {
+        if (!durableAudit) {
+            auditLog.append("payment", payment.getId(), payment.getStatus(), payment.getMerchantId());
+            return;
+        }
         try {
-            log.debug("Auditing payment: id={}", payment.getId());
-            Thread.sleep(30);
-            log.debug("Payment audit recorded: id={}, merchant={}, amount={}",
-                payment.getId(), payment.getMerchantId(), payment.getAmount());
-            return null;
+            long sequence = auditLog.appendDurable("payment", payment.getId(), payment.getStatus(),
+                payment.getMerchantId()).get(auditTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.debug("Payment audit recorded: id={}, status={}, sequence={}",
+                payment.getId(), payment.getStatus(), sequence);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            log.error("Audit failed for payment: id={}", payment.getId());
-            return null;
+            log.error("Audit interrupted for payment: id={}", payment.getId());
+            throw new IllegalStateException("Audit interrupted for payment: id=" + payment.getId(), e);
+        } catch (ExecutionException e) {
+            log.error("Audit failed for payment: id={}, error={}", payment.getId(), e.getCause().getMessage());
+            throw new IllegalStateException("Audit failed for payment: id=" + payment.getId(), e.getCause());
+        } catch (TimeoutException e) {
+            log.error("Audit timed out for payment: id={}, timeout={}", payment.getId(), auditTimeout);
+            throw new IllegalStateException("Audit timed out for payment: id=" + payment.getId(), e);
+        }
+    }
+
+    private static boolean isTerminal(Payment payment) {
+        String status = payment.getStatus();
+        return "COMPLETED".equals(status) || "REJECTED".equals(status) || "FAILED".equals(status);
+    }
+
+    private void markProcessed(Payment payment) {
+        PaymentTransaction transaction = PaymentTransaction.current();
+        if (transaction == null) {
+            deduplicator.recordProcessed(payment.getId());
+            return;
         }
+        String paymentId = payment.getId();
+        transaction.onCommit(() -> deduplicator.recordProcessed(paymentId));
+    }
+
+    private void releaseClaim(String paymentId) {
+        PaymentTransaction transaction = PaymentTransaction.current();
+        if (transaction == null) {
+            deduplicator.release(paymentId);
+            return;
+        }
+        transaction.onComplete(() -> deduplicator.release(paymentId));
     }
 
     private void handleProcessingFailure(Payment payment) {
         payment.setRetryCount(payment.getRetryCount() + 1);
 
         if (payment.getRetryCount() < payment.getMaxRetries()) {
-            log.warn("Payment processing failed, will retry: id={}, retryCount={}/{}",
-                payment.getId(), payment.getRetryCount(), payment.getMaxRetries());
-
-            try {
-                Thread.sleep(1000);
-                pulsarTemplate.send(PAYMENT_TOPIC, payment);
-                log.info("Payment republished for retry: id={}, retryCount={}",
-                    payment.getId(), payment.getRetryCount());
-            } catch (Exception e) {
-                log.error("Failed to republish payment: id={}", payment.getId(), e);
-            }
+            payment.setStatus("PENDING");
+            auditPayment(payment);
+            var delay = retryScheduler.scheduleRetry(payment);
+            metrics.increment("poc.payment.retries",
+                "merchant", payment.getMerchantId(), "attempt", String.valueOf(payment.getRetryCount()));
+            log.warn("Payment processing failed, will retry: id={}, retryCount={}/{}, delay={}ms",
+                payment.getId(), payment.getRetryCount(), payment.getMaxRetries(), delay.toMillis());
         } else {
             payment.setStatus("FAILED");
             payment.setFailureReason("Max retries exceeded");
+            auditPayment(payment);
+            retryScheduler.deadLetter(payment);
+            metrics.increment("poc.payment.dead-letters", "merchant", payment.getMerchantId());
             log.error("Payment permanently failed: id={}, retryCount={}",
                 payment.getId(), payment.getRetryCount());
         }
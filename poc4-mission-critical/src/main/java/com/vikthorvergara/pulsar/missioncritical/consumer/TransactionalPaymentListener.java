@@ -0,0 +1,53 @@
+package com.vikthorvergara.pulsar.missioncritical.consumer;
+
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentTopics;
+import com.vikthorvergara.pulsar.missioncritical.transaction.PaymentTransaction;
+import com.vikthorvergara.pulsar.missioncritical.transaction.PaymentTransactionBatcher;
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.pulsar.annotation.PulsarListener;
+import org.springframework.pulsar.listener.AckMode;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "poc.payment.processor.mode", havingValue = "transactional")
+public class TransactionalPaymentListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionalPaymentListener.class);
+
+    private final PaymentProcessor paymentProcessor;
+    private final PaymentTransactionBatcher batcher;
+
+    public TransactionalPaymentListener(PaymentProcessor paymentProcessor, PaymentTransactionBatcher batcher) {
+        this.paymentProcessor = paymentProcessor;
+        this.batcher = batcher;
+    }
+
+    @PulsarListener(
+        topics = PaymentTopics.TRANSACTIONS,
+        subscriptionName = "payment-processor-subscription",
+        subscriptionType = SubscriptionType.Failover,
+        ackMode = AckMode.MANUAL,
+        concurrency = "1"
+    )
+    public void receivePayment(Message<Payment> message, Consumer<Payment> consumer) throws PulsarClientException {
+        Payment payment = message.getValue();
+        PaymentTransaction transaction = batcher.join();
+        try {
+            transaction.run(() -> paymentProcessor.processPayment(payment));
+            transaction.acknowledge(consumer, message.getMessageId());
+        } catch (RuntimeException e) {
+            log.error("Transactional payment failed: id={}, error={}", payment.getId(), e.getMessage());
+            batcher.fail(transaction);
+            consumer.negativeAcknowledge(message);
+        } finally {
+            batcher.release(transaction);
+        }
+    }
+}
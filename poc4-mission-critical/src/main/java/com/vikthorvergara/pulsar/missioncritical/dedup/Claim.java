@@ -0,0 +1,7 @@
+package com.vikthorvergara.pulsar.missioncritical.dedup;
+
+public enum Claim {
+    CLAIMED,
+    IN_FLIGHT,
+    PROCESSED
+}
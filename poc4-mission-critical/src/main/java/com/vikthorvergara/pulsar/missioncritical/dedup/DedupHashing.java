@@ -0,0 +1,24 @@
+package com.vikthorvergara.pulsar.missioncritical.dedup;
+
+final class DedupHashing {
+
+    private DedupHashing() {
+    }
+
+    static long hash(CharSequence id) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            h = (h ^ id.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,73 @@
+package com.vikthorvergara.pulsar.missioncritical.dedup;
+
+import java.time.Duration;
+
+final class DedupIndex {
+
+    private final int generationSize;
+    private final long generationNanos;
+    private volatile Generation[] generations;
+
+    DedupIndex(int maxEntries, Duration ttl, int generationCount) {
+        this.generationSize = Math.max(1, maxEntries / generationCount);
+        this.generationNanos = ttl.toNanos() / generationCount;
+        Generation[] initial = new Generation[generationCount];
+        long now = System.nanoTime();
+        for (int i = 0; i < generationCount; i++) {
+            initial[i] = new Generation(generationSize, now);
+        }
+        this.generations = initial;
+    }
+
+    boolean contains(long hash) {
+        for (Generation generation : generations) {
+            if (generation.bloom.mightContain(hash) && generation.keys.contains(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void add(long hash) {
+        Generation current = generations[0];
+        long now = System.nanoTime();
+        if (current.keys.isFull() || now - current.createdNanos >= generationNanos) {
+            current = rotate(current, now);
+        }
+        current.bloom.put(hash);
+        current.keys.add(hash);
+    }
+
+    long size() {
+        long total = 0;
+        for (Generation generation : generations) {
+            total += generation.keys.size();
+        }
+        return total;
+    }
+
+    private synchronized Generation rotate(Generation expected, long now) {
+        Generation[] snapshot = generations;
+        if (snapshot[0] != expected) {
+            return snapshot[0];
+        }
+        Generation[] rotated = new Generation[snapshot.length];
+        rotated[0] = new Generation(generationSize, now);
+        System.arraycopy(snapshot, 0, rotated, 1, snapshot.length - 1);
+        generations = rotated;
+        return rotated[0];
+    }
+
+    private static final class Generation {
+
+        private final BloomFilter bloom;
+        private final LongHashSet keys;
+        private final long createdNanos;
+
+        private Generation(int size, long createdNanos) {
+            this.bloom = new BloomFilter(size);
+            this.keys = new LongHashSet(size);
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.vikthorvergara.pulsar.missioncritical.dedup;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final int maxSize;
+    private final AtomicInteger size;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) Math.min(1 << 30, expectedSize * 4L / 3)) - 1) << 1;
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.maxSize = (int) (capacity * 0.75);
+        this.size = new AtomicInteger();
+    }
+
+    boolean add(long key) {
+        long value = key == EMPTY ? 1L : key;
+        int index = (int) DedupHashing.mix(value) & mask;
+        while (true) {
+            long current = slots.get(index);
+            if (current == value) {
+                return false;
+            }
+            if (current == EMPTY) {
+                if (slots.compareAndSet(index, EMPTY, value)) {
+                    size.incrementAndGet();
+                    return true;
+                }
+                continue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    boolean contains(long key) {
+        long value = key == EMPTY ? 1L : key;
+        int index = (int) DedupHashing.mix(value) & mask;
+        while (true) {
+            long current = slots.get(index);
+            if (current == value) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    boolean isFull() {
+        return size.get() >= maxSize;
+    }
+
+    int size() {
+        return size.get();
+    }
+}
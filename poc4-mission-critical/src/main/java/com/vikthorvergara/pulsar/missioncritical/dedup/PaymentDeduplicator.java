@@ -0,0 +1,160 @@
+package com.vikthorvergara.pulsar.missioncritical.dedup;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PaymentDeduplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentDeduplicator.class);
+
+    private final DedupIndex index;
+    private final Set<Long> claimed = ConcurrentHashMap.newKeySet();
+    private final Duration ttl;
+    private final Path journalPath;
+    private DataOutputStream journal;
+    private ScheduledExecutorService flusher;
+
+    public PaymentDeduplicator(@Value("${poc.payment.dedup.max-entries:10000000}") int maxEntries,
+                               @Value("${poc.payment.dedup.ttl:24h}") Duration ttl,
+                               @Value("${poc.payment.dedup.generations:4}") int generations,
+                               @Value("${poc.payment.dedup.journal:}") String journal) {
+        this.index = new DedupIndex(maxEntries, ttl, generations);
+        this.ttl = ttl;
+        this.journalPath = journal.isBlank() ? null : Path.of(journal);
+        if (journalPath != null) {
+            openJournal();
+        }
+    }
+
+    public Claim tryClaim(String paymentId) {
+        if (paymentId == null) {
+            return Claim.CLAIMED;
+        }
+        long hash = DedupHashing.hash(paymentId);
+        if (!claimed.add(hash)) {
+            return Claim.IN_FLIGHT;
+        }
+        if (index.contains(hash)) {
+            claimed.remove(hash);
+            return Claim.PROCESSED;
+        }
+        return Claim.CLAIMED;
+    }
+
+    public void release(String paymentId) {
+        if (paymentId != null) {
+            claimed.remove(DedupHashing.hash(paymentId));
+        }
+    }
+
+    public void recordProcessed(String paymentId) {
+        if (paymentId == null) {
+            return;
+        }
+        long hash = DedupHashing.hash(paymentId);
+        index.add(hash);
+        if (journal != null) {
+            append(hash, System.currentTimeMillis());
+        }
+    }
+
+    public long size() {
+        return index.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        if (journal != null) {
+            synchronized (this) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close dedup journal: {}", journalPath, e);
+                }
+            }
+        }
+    }
+
+    private synchronized void append(long hash, long epochMillis) {
+        try {
+            journal.writeLong(hash);
+            journal.writeLong(epochMillis);
+        } catch (IOException e) {
+            log.error("Failed to append to dedup journal: {}", journalPath, e);
+        }
+    }
+
+    private synchronized void flush() {
+        try {
+            journal.flush();
+        } catch (IOException e) {
+            log.error("Failed to flush dedup journal: {}", journalPath, e);
+        }
+    }
+
+    private void openJournal() {
+        try {
+            if (journalPath.getParent() != null) {
+                Files.createDirectories(journalPath.getParent());
+            }
+            Path compacted = journalPath.resolveSibling(journalPath.getFileName() + ".compact");
+            long cutoff = System.currentTimeMillis() - ttl.toMillis();
+            int restored = 0;
+
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compacted)))) {
+                if (Files.exists(journalPath)) {
+                    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+                        while (true) {
+                            long hash = in.readLong();
+                            long epochMillis = in.readLong();
+                            if (epochMillis >= cutoff) {
+                                index.add(hash);
+                                out.writeLong(hash);
+                                out.writeLong(epochMillis);
+                                restored++;
+                            }
+                        }
+                    } catch (EOFException endOfJournal) {
+                        log.debug("Dedup journal replayed: {}", journalPath);
+                    }
+                }
+            }
+            Files.move(compacted, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            this.journal = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(journalPath, StandardOpenOption.APPEND)));
+            this.flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("dedup-journal-flusher").daemon(true).factory());
+            this.flusher.scheduleWithFixedDelay(this::flush, 1, 1, TimeUnit.SECONDS);
+
+            log.info("Dedup journal opened: path={}, restored={}", journalPath, restored);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open dedup journal: " + journalPath, e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.vikthorvergara.pulsar.missioncritical.model;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class CurrencyUnit {
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+    private static final Map<String, CurrencyUnit> BY_CODE = new HashMap<>();
+    private static final CurrencyUnit[] BY_NUMERIC = new CurrencyUnit[1000];
+
+    static {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int numeric = currency.getNumericCode();
+            int fractionDigits = currency.getDefaultFractionDigits();
+            if (numeric <= 0 || numeric >= BY_NUMERIC.length || fractionDigits < 0
+                    || fractionDigits >= POWERS_OF_TEN.length || BY_NUMERIC[numeric] != null) {
+                continue;
+            }
+            var unit = new CurrencyUnit(currency.getCurrencyCode(), numeric, fractionDigits);
+            BY_CODE.put(unit.code, unit);
+            BY_NUMERIC[numeric] = unit;
+        }
+    }
+
+    public static final CurrencyUnit USD = of("USD");
+
+    private final String code;
+    private final int numericCode;
+    private final int fractionDigits;
+    private final long minorPerMajor;
+
+    private CurrencyUnit(String code, int numericCode, int fractionDigits) {
+        this.code = code;
+        this.numericCode = numericCode;
+        this.fractionDigits = fractionDigits;
+        this.minorPerMajor = POWERS_OF_TEN[fractionDigits];
+    }
+
+    public static CurrencyUnit of(String code) {
+        return code == null ? null : BY_CODE.get(code);
+    }
+
+    public static CurrencyUnit ofNumeric(int numericCode) {
+        return numericCode > 0 && numericCode < BY_NUMERIC.length ? BY_NUMERIC[numericCode] : null;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public int numericCode() {
+        return numericCode;
+    }
+
+    public int fractionDigits() {
+        return fractionDigits;
+    }
+
+    public long minorPerMajor() {
+        return minorPerMajor;
+    }
+
+    public long toMinor(long majorUnits) {
+        return Math.multiplyExact(majorUnits, minorPerMajor);
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
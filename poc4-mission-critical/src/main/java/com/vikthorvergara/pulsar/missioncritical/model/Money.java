@@ -0,0 +1,133 @@
+package com.vikthorvergara.pulsar.missioncritical.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money implements Comparable<Money> {
+
+    private final long minorUnits;
+    private final CurrencyUnit currency;
+
+    private Money(long minorUnits, CurrencyUnit currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, CurrencyUnit currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money ofMinor(long minorUnits, String currencyCode) {
+        return ofMinor(minorUnits, requireCurrency(currencyCode));
+    }
+
+    public static Money of(BigDecimal amount, String currencyCode) {
+        CurrencyUnit currency = requireCurrency(currencyCode);
+        if (amount.stripTrailingZeros().scale() > currency.fractionDigits()) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString() + " has more than "
+                + currency.fractionDigits() + " decimal places for " + currency.code());
+        }
+        return of(amount, currency, RoundingMode.UNNECESSARY);
+    }
+
+    public static Money of(BigDecimal amount, String currencyCode, RoundingMode rounding) {
+        return of(amount, requireCurrency(currencyCode), rounding);
+    }
+
+    public static Money parse(String amount, String currencyCode) {
+        return of(new BigDecimal(amount), currencyCode);
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public CurrencyUnit currency() {
+        return currency;
+    }
+
+    public String currencyCode() {
+        return currency.code();
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.fractionDigits());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minorUnits == other.minorUnits && currency == other.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.numericCode();
+    }
+
+    @Override
+    public String toString() {
+        int digits = currency.fractionDigits();
+        if (digits == 0) {
+            return minorUnits + " " + currency.code();
+        }
+        long perMajor = currency.minorPerMajor();
+        long major = Math.abs(minorUnits / perMajor);
+        long minor = Math.abs(minorUnits % perMajor);
+        var text = new StringBuilder(24);
+        if (minorUnits < 0) {
+            text.append('-');
+        }
+        text.append(major).append('.');
+        String fraction = Long.toString(minor);
+        text.repeat('0', digits - fraction.length()).append(fraction);
+        return text.append(' ').append(currency.code()).toString();
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+    }
+
+    private static Money of(BigDecimal amount, CurrencyUnit currency, RoundingMode rounding) {
+        long minor = amount.setScale(currency.fractionDigits(), rounding)
+            .unscaledValue()
+            .longValueExact();
+        return new Money(minor, currency);
+    }
+
+    private static CurrencyUnit requireCurrency(String currencyCode) {
+        CurrencyUnit currency = CurrencyUnit.of(currencyCode);
+        if (currency == null) {
+            throw new IllegalArgumentException("Unknown currency: " + currencyCode);
+        }
+        return currency;
+    }
+}
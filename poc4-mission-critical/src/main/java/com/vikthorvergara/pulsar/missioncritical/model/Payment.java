@@ -3,13 +3,14 @@ package com.vikthorvergara.pulsar.missioncritical.model;
 import com.vikthorvergara.pulsar.common.model.BaseEvent;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
 
 public class Payment extends BaseEvent {
 
     private String merchantId;
     private String customerId;
-    private BigDecimal amount;
+    private long amountMinorUnits;
     private String currency;
     private String status;
     private int retryCount;
@@ -18,6 +19,7 @@ public class Payment extends BaseEvent {
     private String failureReason;
     private Instant lastAttemptTimestamp;
     private Instant completionTimestamp;
+    private transient BigDecimal legacyAmount;
 
     public Payment() {
         super();
@@ -27,11 +29,12 @@ public class Payment extends BaseEvent {
         this.currency = "USD";
     }
 
-    public Payment(String merchantId, String customerId, BigDecimal amount, String description) {
+    public Payment(String merchantId, String customerId, Money amount, String description) {
         this();
         this.merchantId = merchantId;
         this.customerId = customerId;
-        this.amount = amount;
+        this.amountMinorUnits = amount.minorUnits();
+        this.currency = amount.currencyCode();
         this.description = description;
     }
 
@@ -51,12 +54,21 @@ public class Payment extends BaseEvent {
         this.customerId = customerId;
     }
 
-    public BigDecimal getAmount() {
-        return amount;
+    public long getAmountMinorUnits() {
+        return amountMinorUnits;
+    }
+
+    public void setAmountMinorUnits(long amountMinorUnits) {
+        this.amountMinorUnits = amountMinorUnits;
     }
 
     public void setAmount(BigDecimal amount) {
-        this.amount = amount;
+        this.legacyAmount = amount;
+        applyLegacyAmount();
+    }
+
+    public Money amount() {
+        return Money.ofMinor(amountMinorUnits, currency);
     }
 
     public String getCurrency() {
@@ -65,6 +77,7 @@ public class Payment extends BaseEvent {
 
     public void setCurrency(String currency) {
         this.currency = currency;
+        applyLegacyAmount();
     }
 
     public String getStatus() {
@@ -123,13 +136,19 @@ public class Payment extends BaseEvent {
         this.completionTimestamp = completionTimestamp;
     }
 
+    private void applyLegacyAmount() {
+        if (legacyAmount != null && CurrencyUnit.of(currency) != null) {
+            amountMinorUnits = Money.of(legacyAmount, currency, RoundingMode.HALF_EVEN).minorUnits();
+        }
+    }
+
     @Override
     public String toString() {
         return "Payment{" +
                 "id=" + getId() +
                 ", merchantId='" + merchantId + '\'' +
                 ", customerId='" + customerId + '\'' +
-                ", amount=" + amount +
+                ", amountMinorUnits=" + amountMinorUnits +
                 ", currency='" + currency + '\'' +
                 ", status='" + status + '\'' +
                 ", retryCount=" + retryCount +
@@ -0,0 +1,15 @@
+package com.vikthorvergara.pulsar.missioncritical.model;
+
+public enum PaymentKey {
+
+    MERCHANT,
+    CUSTOMER;
+
+    public String of(Payment payment) {
+        String key = switch (this) {
+            case MERCHANT -> payment.getMerchantId();
+            case CUSTOMER -> payment.getCustomerId();
+        };
+        return key != null ? key : payment.getId();
+    }
+}
@@ -0,0 +1,96 @@
+package com.vikthorvergara.pulsar.missioncritical.model;
+
+import com.vikthorvergara.pulsar.common.model.BaseEvent;
+
+public class PaymentStatusEvent extends BaseEvent {
+
+    private String paymentId;
+    private String merchantId;
+    private String status;
+    private long amountMinorUnits;
+    private String currency;
+    private int retryCount;
+    private String failureReason;
+
+    public PaymentStatusEvent() {
+        super();
+    }
+
+    public static PaymentStatusEvent of(Payment payment) {
+        var event = new PaymentStatusEvent();
+        event.paymentId = payment.getId();
+        event.merchantId = payment.getMerchantId();
+        event.status = payment.getStatus();
+        event.amountMinorUnits = payment.getAmountMinorUnits();
+        event.currency = payment.getCurrency();
+        event.retryCount = payment.getRetryCount();
+        event.failureReason = payment.getFailureReason();
+        return event;
+    }
+
+    public String getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(String paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public String getMerchantId() {
+        return merchantId;
+    }
+
+    public void setMerchantId(String merchantId) {
+        this.merchantId = merchantId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getAmountMinorUnits() {
+        return amountMinorUnits;
+    }
+
+    public void setAmountMinorUnits(long amountMinorUnits) {
+        this.amountMinorUnits = amountMinorUnits;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    public void setRetryCount(int retryCount) {
+        this.retryCount = retryCount;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentStatusEvent{" +
+                "paymentId='" + paymentId + '\'' +
+                ", merchantId='" + merchantId + '\'' +
+                ", status='" + status + '\'' +
+                ", retryCount=" + retryCount +
+                '}';
+    }
+}
@@ -0,0 +1,12 @@
+package com.vikthorvergara.pulsar.missioncritical.model;
+
+public final class PaymentTopics {
+
+    public static final String TRANSACTIONS = "persistent://public/default/payment-transactions";
+    public static final String RETRY = "persistent://public/default/payment-transactions-retry";
+    public static final String DEAD_LETTER = "persistent://public/default/payment-transactions-dlq";
+    public static final String STATUS = "persistent://public/default/payment-status";
+
+    private PaymentTopics() {
+    }
+}
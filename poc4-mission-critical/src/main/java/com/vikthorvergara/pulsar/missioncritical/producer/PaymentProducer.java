@@ -1,25 +1,30 @@
 package com.vikthorvergara.pulsar.missioncritical.producer;
 
+import com.vikthorvergara.pulsar.common.producer.EventPublisher;
+import com.vikthorvergara.pulsar.missioncritical.model.Money;
 import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentKey;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentTopics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.pulsar.core.PulsarTemplate;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.util.concurrent.Executors;
 
 @Component
 public class PaymentProducer implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentProducer.class);
-    private static final String PAYMENT_TOPIC = "persistent://public/default/payment-transactions";
 
-    private final PulsarTemplate pulsarTemplate;
+    private final EventPublisher eventPublisher;
+    private final PaymentKey paymentKey;
 
-    public PaymentProducer(PulsarTemplate pulsarTemplate) {
-        this.pulsarTemplate = pulsarTemplate;
+    public PaymentProducer(EventPublisher eventPublisher,
+                           @Value("${poc.payment.key:MERCHANT}") PaymentKey paymentKey) {
+        this.eventPublisher = eventPublisher;
+        this.paymentKey = paymentKey;
     }
 
     @Override
@@ -47,25 +52,25 @@ public class PaymentProducer implements CommandLineRunner {
 
         String customerId = "CUST-" + String.format("%04d", paymentNum);
 
-        BigDecimal amount = switch (paymentNum % 5) {
-            case 0 -> new BigDecimal("5000.00");
-            case 1 -> new BigDecimal("150.50");
-            case 2 -> new BigDecimal("75.25");
-            case 3 -> new BigDecimal("1250.00");
-            default -> new BigDecimal("10.00");
+        Money amount = switch (paymentNum % 5) {
+            case 0 -> Money.ofMinor(500_000, "USD");
+            case 1 -> Money.ofMinor(15_050, "USD");
+            case 2 -> Money.ofMinor(7_525, "USD");
+            case 3 -> Money.ofMinor(125_000, "USD");
+            default -> Money.ofMinor(1_000, "USD");
         };
 
         String description = "Payment for order #" + paymentNum;
 
         var payment = new Payment(merchantId, customerId, amount, description);
 
-        try {
-            pulsarTemplate.send(PAYMENT_TOPIC, payment);
-            log.info("Produced payment: merchant={}, customer={}, amount={} {}",
-                payment.getMerchantId(), payment.getCustomerId(),
-                payment.getAmount(), payment.getCurrency());
-        } catch (Exception e) {
-            log.error("Failed to produce payment", e);
-        }
+        eventPublisher.publish(PaymentTopics.TRANSACTIONS, payment, paymentKey.of(payment)).whenComplete((messageId, e) -> {
+            if (e != null) {
+                log.error("Failed to produce payment", e);
+            } else {
+                log.info("Produced payment: merchant={}, customer={}, amount={}",
+                    payment.getMerchantId(), payment.getCustomerId(), payment.amount());
+            }
+        });
     }
 }
@@ -0,0 +1,104 @@
+package com.vikthorvergara.pulsar.missioncritical.retry;
+
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentKey;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentTopics;
+import com.vikthorvergara.pulsar.missioncritical.transaction.PaymentTransaction;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.pulsar.annotation.PulsarListener;
+import org.springframework.pulsar.core.PulsarTemplate;
+import org.springframework.pulsar.listener.AckMode;
+import org.springframework.pulsar.listener.Acknowledgement;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PaymentRetryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentRetryScheduler.class);
+
+    private final PulsarTemplate pulsarTemplate;
+    private final RetryBackoff backoff;
+    private final PaymentKey paymentKey;
+
+    public PaymentRetryScheduler(PulsarTemplate pulsarTemplate,
+                                 @Value("${poc.payment.retry.initial-delay:1s}") Duration initialDelay,
+                                 @Value("${poc.payment.retry.multiplier:2.0}") double multiplier,
+                                 @Value("${poc.payment.retry.max-delay:30s}") Duration maxDelay,
+                                 @Value("${poc.payment.retry.jitter:0.2}") double jitter,
+                                 @Value("${poc.payment.key:MERCHANT}") PaymentKey paymentKey) {
+        this.pulsarTemplate = pulsarTemplate;
+        this.backoff = new RetryBackoff(initialDelay, multiplier, maxDelay, jitter);
+        this.paymentKey = paymentKey;
+    }
+
+    public Duration scheduleRetry(Payment payment) {
+        Duration delay = backoff.delayFor(payment.getRetryCount());
+        await(publish(PaymentTopics.RETRY, payment, delay), "Failed to schedule payment retry", payment);
+        log.info("Payment retry scheduled: id={}, retryCount={}, delay={}ms",
+            payment.getId(), payment.getRetryCount(), delay.toMillis());
+        return delay;
+    }
+
+    public void deadLetter(Payment payment) {
+        await(publish(PaymentTopics.DEAD_LETTER, payment, Duration.ZERO), "Failed to dead-letter payment", payment);
+        log.info("Payment dead-lettered: id={}, retryCount={}", payment.getId(), payment.getRetryCount());
+    }
+
+    @PulsarListener(
+        topics = PaymentTopics.RETRY,
+        subscriptionName = "payment-retry-subscription",
+        subscriptionType = SubscriptionType.Shared,
+        ackMode = AckMode.MANUAL
+    )
+    public void forwardRetry(Payment payment, Acknowledgement acknowledgement) {
+        publish(PaymentTopics.TRANSACTIONS, payment, Duration.ZERO).whenComplete((messageId, e) -> {
+            if (e != null) {
+                log.error("Failed to republish payment for retry: id={}", payment.getId(), e);
+                acknowledgement.nack();
+            } else {
+                log.info("Payment republished for retry: id={}, retryCount={}",
+                    payment.getId(), payment.getRetryCount());
+                acknowledgement.acknowledge();
+            }
+        });
+    }
+
+    private void await(CompletableFuture<MessageId> publish, String failure, Payment payment) {
+        try {
+            publish.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(failure + ": id=" + payment.getId(), e);
+        } catch (ExecutionException e) {
+            log.error("{}: id={}", failure, payment.getId(), e.getCause());
+            throw new IllegalStateException(failure + ": id=" + payment.getId(), e.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<MessageId> publish(String topic, Payment payment, Duration delay) {
+        String key = paymentKey.of(payment);
+        PaymentTransaction transaction = PaymentTransaction.current();
+        if (transaction != null) {
+            return transaction.send(topic, payment, key, delay);
+        }
+        return pulsarTemplate.newMessage(payment)
+                .withTopic(topic)
+                .withMessageCustomizer(builder -> {
+                    builder.key(key);
+                    if (!delay.isZero()) {
+                        builder.deliverAfter(delay.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                })
+                .sendAsync();
+    }
+}
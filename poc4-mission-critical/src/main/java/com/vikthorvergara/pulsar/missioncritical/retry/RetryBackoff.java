@@ -0,0 +1,15 @@
+package com.vikthorvergara.pulsar.missioncritical.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public record RetryBackoff(Duration initialDelay, double multiplier, Duration maxDelay, double jitter) {
+
+    public Duration delayFor(int retryCount) {
+        double exponential = initialDelay.toMillis() * Math.pow(multiplier, Math.max(0, retryCount - 1));
+        double capped = Math.min(exponential, maxDelay.toMillis());
+        double spread = capped * jitter;
+        double jittered = capped + (spread > 0 ? ThreadLocalRandom.current().nextDouble(-spread, spread) : 0);
+        return Duration.ofMillis(Math.max(0, Math.round(jittered)));
+    }
+}
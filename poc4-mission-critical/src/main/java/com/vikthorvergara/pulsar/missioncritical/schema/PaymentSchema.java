@@ -0,0 +1,67 @@
+package com.vikthorvergara.pulsar.missioncritical.schema;
+
+import com.vikthorvergara.pulsar.common.schema.BaseEventSchema;
+import com.vikthorvergara.pulsar.common.schema.EventDecoder;
+import com.vikthorvergara.pulsar.common.schema.EventEncoder;
+import com.vikthorvergara.pulsar.missioncritical.model.CurrencyUnit;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentSchema extends BaseEventSchema<Payment> {
+
+    public PaymentSchema() {
+        super(Payment.class, 160);
+    }
+
+    @Override
+    protected Payment newEvent() {
+        return new Payment();
+    }
+
+    @Override
+    protected void writeBody(Payment payment, EventEncoder encoder) {
+        encoder.writeString(payment.getMerchantId());
+        encoder.writeString(payment.getCustomerId());
+        encoder.writeSignedVarLong(payment.getAmountMinorUnits());
+        CurrencyUnit unit = CurrencyUnit.of(payment.getCurrency());
+        if (unit != null) {
+            encoder.writeVarInt(unit.numericCode());
+        } else {
+            encoder.writeVarInt(0);
+            encoder.writeString(payment.getCurrency());
+        }
+        encoder.writeString(payment.getStatus());
+        encoder.writeSignedVarInt(payment.getRetryCount());
+        encoder.writeSignedVarInt(payment.getMaxRetries());
+        encoder.writeString(payment.getDescription());
+        encoder.writeString(payment.getFailureReason());
+        encoder.writeInstant(payment.getLastAttemptTimestamp());
+        encoder.writeInstant(payment.getCompletionTimestamp());
+    }
+
+    @Override
+    protected void readBody(EventDecoder decoder, Payment payment) {
+        payment.setMerchantId(decoder.readString());
+        payment.setCustomerId(decoder.readString());
+        payment.setAmountMinorUnits(decoder.readSignedVarLong());
+        int numericCode = decoder.readVarInt();
+        if (numericCode == 0) {
+            payment.setCurrency(decoder.readString());
+        } else {
+            CurrencyUnit unit = CurrencyUnit.ofNumeric(numericCode);
+            if (unit == null) {
+                throw new SchemaSerializationException("Unknown currency code " + numericCode);
+            }
+            payment.setCurrency(unit.code());
+        }
+        payment.setStatus(decoder.readString());
+        payment.setRetryCount(decoder.readSignedVarInt());
+        payment.setMaxRetries(decoder.readSignedVarInt());
+        payment.setDescription(decoder.readString());
+        payment.setFailureReason(decoder.readString());
+        payment.setLastAttemptTimestamp(decoder.readInstant());
+        payment.setCompletionTimestamp(decoder.readInstant());
+    }
+}
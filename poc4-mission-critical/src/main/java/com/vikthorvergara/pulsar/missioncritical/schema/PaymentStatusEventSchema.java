@@ -0,0 +1,42 @@
+package com.vikthorvergara.pulsar.missioncritical.schema;
+
+import com.vikthorvergara.pulsar.common.schema.BaseEventSchema;
+import com.vikthorvergara.pulsar.common.schema.EventDecoder;
+import com.vikthorvergara.pulsar.common.schema.EventEncoder;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentStatusEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentStatusEventSchema extends BaseEventSchema<PaymentStatusEvent> {
+
+    public PaymentStatusEventSchema() {
+        super(PaymentStatusEvent.class, 128);
+    }
+
+    @Override
+    protected PaymentStatusEvent newEvent() {
+        return new PaymentStatusEvent();
+    }
+
+    @Override
+    protected void writeBody(PaymentStatusEvent event, EventEncoder encoder) {
+        encoder.writeId(event.getPaymentId());
+        encoder.writeString(event.getMerchantId());
+        encoder.writeString(event.getStatus());
+        encoder.writeSignedVarLong(event.getAmountMinorUnits());
+        encoder.writeString(event.getCurrency());
+        encoder.writeSignedVarInt(event.getRetryCount());
+        encoder.writeString(event.getFailureReason());
+    }
+
+    @Override
+    protected void readBody(EventDecoder decoder, PaymentStatusEvent event) {
+        event.setPaymentId(decoder.readId());
+        event.setMerchantId(decoder.readString());
+        event.setStatus(decoder.readString());
+        event.setAmountMinorUnits(decoder.readSignedVarLong());
+        event.setCurrency(decoder.readString());
+        event.setRetryCount(decoder.readSignedVarInt());
+        event.setFailureReason(decoder.readString());
+    }
+}
@@ -0,0 +1,52 @@
+package com.vikthorvergara.pulsar.missioncritical.status;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.common.producer.EventPublisher;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentStatusEvent;
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentTopics;
+import com.vikthorvergara.pulsar.missioncritical.transaction.PaymentTransaction;
+import org.apache.pulsar.client.api.MessageId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class PaymentStatusPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentStatusPublisher.class);
+
+    private final EventPublisher eventPublisher;
+    private final boolean enabled;
+    private final EventMetrics metrics;
+
+    public PaymentStatusPublisher(EventPublisher eventPublisher,
+                                  @Value("${poc.payment.status.enabled:true}") boolean enabled,
+                                  EventMetrics metrics) {
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.metrics = metrics;
+    }
+
+    public void publish(Payment payment) {
+        if (!enabled) {
+            return;
+        }
+        var event = PaymentStatusEvent.of(payment);
+        PaymentTransaction transaction = PaymentTransaction.current();
+        CompletableFuture<MessageId> sent = transaction != null
+            ? transaction.send(PaymentTopics.STATUS, event, event.getPaymentId(), Duration.ZERO)
+            : eventPublisher.publishAsync(PaymentTopics.STATUS, event, event.getPaymentId());
+        sent.whenComplete((messageId, e) -> {
+            if (e != null) {
+                metrics.increment("poc.payment.status.failures", "status", event.getStatus());
+                log.warn("Failed to publish payment status: id={}, status={}, error={}",
+                    event.getPaymentId(), event.getStatus(), e.getMessage());
+            }
+        });
+    }
+}
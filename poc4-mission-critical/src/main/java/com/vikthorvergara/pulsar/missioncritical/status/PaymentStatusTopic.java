@@ -0,0 +1,47 @@
+package com.vikthorvergara.pulsar.missioncritical.status;
+
+import com.vikthorvergara.pulsar.missioncritical.model.PaymentTopics;
+import jakarta.annotation.PostConstruct;
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.client.admin.PulsarAdminException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+public class PaymentStatusTopic {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentStatusTopic.class);
+
+    private final PulsarAdmin pulsarAdmin;
+    private final DataSize compactionThreshold;
+
+    public PaymentStatusTopic(PulsarAdmin pulsarAdmin,
+                              @Value("${poc.payment.status.compaction-threshold:16MB}") DataSize compactionThreshold) {
+        this.pulsarAdmin = pulsarAdmin;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @PostConstruct
+    public void enableCompaction() {
+        try {
+            createTopic();
+            pulsarAdmin.topicPolicies().setCompactionThreshold(PaymentTopics.STATUS, compactionThreshold.toBytes());
+            log.info("Payment status topic compaction enabled: topic={}, threshold={}",
+                PaymentTopics.STATUS, compactionThreshold);
+        } catch (PulsarAdminException e) {
+            log.warn("Could not enable compaction on payment status topic: topic={}, error={}",
+                PaymentTopics.STATUS, e.getMessage());
+        }
+    }
+
+    private void createTopic() throws PulsarAdminException {
+        try {
+            pulsarAdmin.topics().createNonPartitionedTopic(PaymentTopics.STATUS);
+        } catch (PulsarAdminException.ConflictException e) {
+            log.debug("Payment status topic already exists: topic={}", PaymentTopics.STATUS);
+        }
+    }
+}
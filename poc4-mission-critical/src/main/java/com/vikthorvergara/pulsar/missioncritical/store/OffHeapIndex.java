@@ -0,0 +1,106 @@
+package com.vikthorvergara.pulsar.missioncritical.store;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.function.LongPredicate;
+
+final class OffHeapIndex implements AutoCloseable {
+
+    static final long MISSING = -1;
+
+    private static final long SLOT_BYTES = 16;
+    private static final long EMPTY = 0;
+
+    private Arena arena;
+    private MemorySegment slots;
+    private long mask;
+    private long size;
+
+    OffHeapIndex(long initialCapacity) {
+        allocate(Long.highestOneBit(Math.max(16, initialCapacity - 1)) << 1);
+    }
+
+    long get(long hash, LongPredicate matches) {
+        hash = normalize(hash);
+        for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long stored = slots.get(ValueLayout.JAVA_LONG, slot * SLOT_BYTES);
+            if (stored == EMPTY) {
+                return MISSING;
+            }
+            if (stored == hash) {
+                long address = slots.get(ValueLayout.JAVA_LONG, slot * SLOT_BYTES + 8);
+                if (matches.test(address)) {
+                    return address;
+                }
+            }
+        }
+    }
+
+    long put(long hash, long address, LongPredicate sameKey) {
+        hash = normalize(hash);
+        for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long offset = slot * SLOT_BYTES;
+            long stored = slots.get(ValueLayout.JAVA_LONG, offset);
+            if (stored == EMPTY) {
+                slots.set(ValueLayout.JAVA_LONG, offset, hash);
+                slots.set(ValueLayout.JAVA_LONG, offset + 8, address);
+                if (++size > (mask + 1) * 3 / 4) {
+                    resize();
+                }
+                return MISSING;
+            }
+            if (stored == hash) {
+                long previous = slots.get(ValueLayout.JAVA_LONG, offset + 8);
+                if (sameKey.test(previous)) {
+                    slots.set(ValueLayout.JAVA_LONG, offset + 8, address);
+                    return previous;
+                }
+            }
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    long capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private void resize() {
+        Arena oldArena = arena;
+        MemorySegment oldSlots = slots;
+        long oldCapacity = mask + 1;
+        allocate(oldCapacity << 1);
+        for (long slot = 0; slot < oldCapacity; slot++) {
+            long hash = oldSlots.get(ValueLayout.JAVA_LONG, slot * SLOT_BYTES);
+            if (hash == EMPTY) {
+                continue;
+            }
+            long target = hash & mask;
+            while (slots.get(ValueLayout.JAVA_LONG, target * SLOT_BYTES) != EMPTY) {
+                target = (target + 1) & mask;
+            }
+            slots.set(ValueLayout.JAVA_LONG, target * SLOT_BYTES, hash);
+            slots.set(ValueLayout.JAVA_LONG, target * SLOT_BYTES + 8,
+                oldSlots.get(ValueLayout.JAVA_LONG, slot * SLOT_BYTES + 8));
+        }
+        oldArena.close();
+    }
+
+    private void allocate(long capacity) {
+        arena = Arena.ofShared();
+        slots = arena.allocate(capacity * SLOT_BYTES, 8);
+        mask = capacity - 1;
+    }
+
+    private static long normalize(long hash) {
+        return hash == EMPTY ? 1 : hash;
+    }
+}
@@ -0,0 +1,22 @@
+package com.vikthorvergara.pulsar.missioncritical.store;
+
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+
+import java.time.Instant;
+
+public record PaymentState(
+        String paymentId,
+        String merchantId,
+        String status,
+        long amountMinorUnits,
+        String currency,
+        int retryCount,
+        String failureReason,
+        Instant updatedAt) {
+
+    public static PaymentState of(Payment payment) {
+        return new PaymentState(payment.getId(), payment.getMerchantId(), payment.getStatus(),
+            payment.getAmountMinorUnits(), payment.getCurrency(), payment.getRetryCount(),
+            payment.getFailureReason(), Instant.now());
+    }
+}
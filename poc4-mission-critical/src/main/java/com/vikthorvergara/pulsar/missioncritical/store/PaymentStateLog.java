@@ -0,0 +1,355 @@
+package com.vikthorvergara.pulsar.missioncritical.store;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+final class PaymentStateLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentStateLog.class);
+
+    static final long NONE = -1;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED;
+
+    private static final String PREFIX = "payments-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+    private static final int PREV_MERCHANT = HEADER_BYTES;
+    private static final int UPDATED_AT = PREV_MERCHANT + 8;
+    private static final int AMOUNT = UPDATED_AT + 8;
+    private static final int RETRY_COUNT = AMOUNT + 8;
+    private static final int PAYMENT_ID = RETRY_COUNT + 4;
+    private static final int MAX_FIELD_BYTES = 4096;
+
+    interface RecordVisitor {
+        void visit(long address) throws IOException;
+    }
+
+    private final Path directory;
+    private final long segmentSize;
+    private final Arena arena = Arena.ofShared();
+    private final List<MemorySegment> segments = new ArrayList<>();
+    private final List<FileChannel> channels = new ArrayList<>();
+    private final byte[] scratch = new byte[HEADER_BYTES + 28 + 5 * (2 + MAX_FIELD_BYTES)];
+    private final MemorySegment scratchSegment = MemorySegment.ofArray(scratch);
+    private final CRC32C crc = new CRC32C();
+    private long position;
+
+    PaymentStateLog(Path directory, long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = Math.min(segmentSize, Integer.MAX_VALUE);
+    }
+
+    void recover(RecordVisitor visitor) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(PaymentStateLog::isSegment).sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            if (!files.get(i).equals(segmentPath(i))) {
+                throw new IOException("Payment state log is missing segment " + segmentPath(i).getFileName());
+            }
+            MemorySegment segment = map(files.get(i));
+            long offset = 0;
+            while (true) {
+                long length = validRecordLength(segment, offset);
+                if (length < 0) {
+                    break;
+                }
+                visitor.visit(address(i, offset));
+                offset += length;
+            }
+            position = address(i, offset);
+            if (offset + HEADER_BYTES <= segment.byteSize() && segment.get(INT, offset) != 0) {
+                log.warn("Payment state log has a torn tail, truncating: segment={}, offset={}",
+                    files.get(i).getFileName(), offset);
+                segment.asSlice(offset).fill((byte) 0);
+                segment.force();
+            }
+        }
+        if (segments.isEmpty()) {
+            map(segmentPath(0));
+            position = 0;
+        }
+    }
+
+    long append(PaymentState state, long prevMerchantAddress) {
+        scratchSegment.set(LONG, PREV_MERCHANT, prevMerchantAddress);
+        scratchSegment.set(LONG, UPDATED_AT, state.updatedAt().toEpochMilli());
+        scratchSegment.set(LONG, AMOUNT, state.amountMinorUnits());
+        scratchSegment.set(INT, RETRY_COUNT, state.retryCount());
+        int end = PAYMENT_ID;
+        end = putString(end, state.paymentId());
+        end = putString(end, state.merchantId());
+        end = putString(end, state.status());
+        end = putString(end, state.currency());
+        end = putString(end, state.failureReason());
+        int bodyLength = end - HEADER_BYTES;
+        crc.reset();
+        crc.update(scratch, HEADER_BYTES, bodyLength);
+        scratchSegment.set(INT, 0, bodyLength);
+        scratchSegment.set(INT, 4, (int) crc.getValue());
+
+        int segmentIndex = segmentIndex(position);
+        long offset = offset(position);
+        if (offset + end > segmentSize) {
+            try {
+                segments.get(segmentIndex).force();
+                segmentIndex++;
+                map(segmentPath(segmentIndex));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to roll payment state log", e);
+            }
+            offset = 0;
+        }
+        MemorySegment.copy(scratchSegment, 0, segments.get(segmentIndex), offset, end);
+        long address = address(segmentIndex, offset);
+        position = address + end;
+        return address;
+    }
+
+    void forEach(RecordVisitor visitor) throws IOException {
+        for (int i = 0; i < segments.size(); i++) {
+            MemorySegment segment = segments.get(i);
+            long end = i == segmentIndex(position) ? offset(position) : segment.byteSize();
+            long offset = 0;
+            while (offset + HEADER_BYTES <= end) {
+                int bodyLength = segment.get(INT, offset);
+                if (bodyLength <= 0) {
+                    break;
+                }
+                visitor.visit(address(i, offset));
+                offset += HEADER_BYTES + bodyLength;
+            }
+        }
+    }
+
+    PaymentState read(long address) {
+        MemorySegment segment = segment(address);
+        long offset = offset(address);
+        long field = offset + PAYMENT_ID;
+        String paymentId = getString(segment, field);
+        field = skipString(segment, field);
+        String merchantId = getString(segment, field);
+        field = skipString(segment, field);
+        String status = getString(segment, field);
+        field = skipString(segment, field);
+        String currency = getString(segment, field);
+        field = skipString(segment, field);
+        String failureReason = getString(segment, field);
+        return new PaymentState(paymentId, merchantId, status,
+            segment.get(LONG, offset + AMOUNT), currency, segment.get(INT, offset + RETRY_COUNT),
+            failureReason, Instant.ofEpochMilli(segment.get(LONG, offset + UPDATED_AT)));
+    }
+
+    long updatedAt(long address) {
+        return segment(address).get(LONG, offset(address) + UPDATED_AT);
+    }
+
+    long prevMerchant(long address) {
+        return segment(address).get(LONG, offset(address) + PREV_MERCHANT);
+    }
+
+    long paymentIdHash(long address) {
+        return hash(segment(address), offset(address) + PAYMENT_ID);
+    }
+
+    long merchantIdHash(long address) {
+        MemorySegment segment = segment(address);
+        return hash(segment, skipString(segment, offset(address) + PAYMENT_ID));
+    }
+
+    boolean paymentIdEquals(long address, byte[] paymentId) {
+        return equals(segment(address), offset(address) + PAYMENT_ID, paymentId);
+    }
+
+    boolean merchantIdEquals(long address, byte[] merchantId) {
+        MemorySegment segment = segment(address);
+        return equals(segment, skipString(segment, offset(address) + PAYMENT_ID), merchantId);
+    }
+
+    boolean samePaymentId(long first, long second) {
+        return fieldEquals(segment(first), offset(first) + PAYMENT_ID, segment(second), offset(second) + PAYMENT_ID);
+    }
+
+    boolean sameMerchantId(long first, long second) {
+        MemorySegment firstSegment = segment(first);
+        MemorySegment secondSegment = segment(second);
+        return fieldEquals(firstSegment, skipString(firstSegment, offset(first) + PAYMENT_ID),
+            secondSegment, skipString(secondSegment, offset(second) + PAYMENT_ID));
+    }
+
+    long sizeBytes() {
+        return (long) segmentIndex(position) * segmentSize + offset(position);
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    void force() {
+        if (!segments.isEmpty()) {
+            segments.getLast().force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        for (FileChannel channel : channels) {
+            channel.close();
+        }
+        arena.close();
+    }
+
+    static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static long hash(byte[] bytes) {
+        long h = 0xCBF29CE484222325L;
+        if (bytes != null) {
+            for (byte b : bytes) {
+                h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+            }
+        }
+        return mix(h);
+    }
+
+    private static long hash(MemorySegment segment, long field) {
+        long h = 0xCBF29CE484222325L;
+        int length = segment.get(SHORT, field);
+        for (int i = 0; i < length; i++) {
+            h = (h ^ (segment.get(ValueLayout.JAVA_BYTE, field + 2 + i) & 0xFF)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static boolean equals(MemorySegment segment, long field, byte[] bytes) {
+        int length = segment.get(SHORT, field);
+        if (bytes == null || length != bytes.length) {
+            return bytes == null && length < 0;
+        }
+        for (int i = 0; i < length; i++) {
+            if (segment.get(ValueLayout.JAVA_BYTE, field + 2 + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean fieldEquals(MemorySegment first, long firstField, MemorySegment second, long secondField) {
+        int length = first.get(SHORT, firstField);
+        if (length != second.get(SHORT, secondField)) {
+            return false;
+        }
+        return length <= 0 || MemorySegment.mismatch(first, firstField + 2, firstField + 2 + length,
+            second, secondField + 2, secondField + 2 + length) == -1;
+    }
+
+    private int putString(int offset, String value) {
+        if (value == null) {
+            scratchSegment.set(SHORT, offset, (short) -1);
+            return offset + 2;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_FIELD_BYTES);
+        scratchSegment.set(SHORT, offset, (short) length);
+        System.arraycopy(bytes, 0, scratch, offset + 2, length);
+        return offset + 2 + length;
+    }
+
+    private static String getString(MemorySegment segment, long field) {
+        int length = segment.get(SHORT, field);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, field + 2, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long skipString(MemorySegment segment, long field) {
+        return field + 2 + Math.max(0, segment.get(SHORT, field));
+    }
+
+    private long validRecordLength(MemorySegment segment, long offset) {
+        if (offset + HEADER_BYTES > segment.byteSize()) {
+            return -1;
+        }
+        int bodyLength = segment.get(INT, offset);
+        if (bodyLength <= 0 || bodyLength > scratch.length - HEADER_BYTES
+                || offset + HEADER_BYTES + bodyLength > segment.byteSize()) {
+            return -1;
+        }
+        MemorySegment.copy(segment, offset + HEADER_BYTES, scratchSegment, HEADER_BYTES, bodyLength);
+        crc.reset();
+        crc.update(scratch, HEADER_BYTES, bodyLength);
+        if ((int) crc.getValue() != segment.get(INT, offset + 4)) {
+            return -1;
+        }
+        return HEADER_BYTES + bodyLength;
+    }
+
+    private MemorySegment map(Path path) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        channels.add(channel);
+        MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize, arena);
+        segments.add(segment);
+        return segment;
+    }
+
+    private MemorySegment segment(long address) {
+        return segments.get(segmentIndex(address));
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(PREFIX + String.format("%06d", index) + SUFFIX);
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static long address(int segmentIndex, long offset) {
+        return ((long) segmentIndex << 32) | offset;
+    }
+
+    private static int segmentIndex(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static long offset(long address) {
+        return address & 0xFFFFFFFFL;
+    }
+}
@@ -0,0 +1,323 @@
+package com.vikthorvergara.pulsar.missioncritical.store;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Component
+public class PaymentStateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentStateStore.class);
+
+    private static final String GENERATION_PREFIX = "generation-";
+    private static final String STAGING_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final int initialCapacity;
+    private final int maxSegments;
+    private final Duration retention;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final EventMetrics metrics;
+    private final ScheduledExecutorService flusher;
+    private long generation;
+    private PaymentStateLog stateLog;
+    private OffHeapIndex paymentIndex;
+    private OffHeapIndex merchantIndex;
+    private long records;
+    private boolean full;
+
+    public PaymentStateStore(@Value("${poc.payment.store.directory:target/payment-store}") String directory,
+                             @Value("${poc.payment.store.segment-size:256MB}") DataSize segmentSize,
+                             @Value("${poc.payment.store.max-segments:8}") int maxSegments,
+                             @Value("${poc.payment.store.retention:7d}") Duration retention,
+                             @Value("${poc.payment.store.initial-capacity:1048576}") int initialCapacity,
+                             @Value("${poc.payment.store.flush-interval:1s}") Duration flushInterval,
+                             EventMetrics metrics) {
+        if (maxSegments < 2) {
+            throw new IllegalArgumentException("max-segments must be at least 2: " + maxSegments);
+        }
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize.toBytes();
+        this.initialCapacity = initialCapacity;
+        this.maxSegments = maxSegments;
+        this.retention = retention;
+        this.metrics = metrics;
+        long start = System.nanoTime();
+        try {
+            this.generation = latestGeneration();
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover payment state store: " + directory, e);
+        }
+        log.info("Payment state store recovered: directory={}, generation={}, records={}, payments={}, merchants={}, "
+                + "took={}ms", directory, generation, records, paymentIndex.size(), merchantIndex.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        metrics.gauge("poc.payment.store.records", this::recordCount);
+        metrics.gauge("poc.payment.store.payments", this::paymentCount);
+        metrics.gauge("poc.payment.store.bytes", this::sizeBytes);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("payment-store-flusher").daemon(true).factory());
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    public void record(Payment payment) {
+        if (payment.getId() == null) {
+            return;
+        }
+        PaymentState state = PaymentState.of(payment);
+        byte[] paymentId = PaymentStateLog.utf8(state.paymentId());
+        byte[] merchantId = PaymentStateLog.utf8(state.merchantId());
+        long merchantHash = PaymentStateLog.hash(merchantId);
+        lock.writeLock().lock();
+        try {
+            ensureCapacity();
+            long prevMerchant = merchantIndex.get(merchantHash, address -> stateLog.merchantIdEquals(address, merchantId));
+            long address = stateLog.append(state, prevMerchant == OffHeapIndex.MISSING ? PaymentStateLog.NONE : prevMerchant);
+            paymentIndex.put(PaymentStateLog.hash(paymentId), address,
+                previous -> stateLog.paymentIdEquals(previous, paymentId));
+            merchantIndex.put(merchantHash, address, previous -> stateLog.merchantIdEquals(previous, merchantId));
+            records++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<PaymentState> find(String paymentId) {
+        long start = System.nanoTime();
+        byte[] id = PaymentStateLog.utf8(paymentId);
+        lock.readLock().lock();
+        try {
+            long address = paymentIndex.get(PaymentStateLog.hash(id), candidate -> stateLog.paymentIdEquals(candidate, id));
+            return address == OffHeapIndex.MISSING ? Optional.empty() : Optional.of(stateLog.read(address));
+        } finally {
+            lock.readLock().unlock();
+            metrics.recordHandler("payment-store-lookup", start, "by", "id");
+        }
+    }
+
+    public List<PaymentState> findByMerchant(String merchantId, int limit) {
+        long start = System.nanoTime();
+        byte[] id = PaymentStateLog.utf8(merchantId);
+        var states = new ArrayList<PaymentState>(Math.min(limit, 256));
+        lock.readLock().lock();
+        try {
+            long address = merchantIndex.get(PaymentStateLog.hash(id), candidate -> stateLog.merchantIdEquals(candidate, id));
+            while (address != OffHeapIndex.MISSING && address != PaymentStateLog.NONE && states.size() < limit) {
+                if (isLatest(address)) {
+                    states.add(stateLog.read(address));
+                }
+                address = stateLog.prevMerchant(address);
+            }
+            return states;
+        } finally {
+            lock.readLock().unlock();
+            metrics.recordHandler("payment-store-lookup", start, "by", "merchant");
+        }
+    }
+
+    public long recordCount() {
+        lock.readLock().lock();
+        try {
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long paymentCount() {
+        lock.readLock().lock();
+        try {
+            return paymentIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flusher.shutdownNow();
+        lock.writeLock().lock();
+        try {
+            closeGeneration();
+        } catch (IOException e) {
+            log.warn("Failed to close payment state store", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureCapacity() {
+        if (full) {
+            throw new IllegalStateException("Payment state store is full: directory=" + directory
+                + ", max-segments=" + maxSegments);
+        }
+        if (stateLog.segmentCount() <= maxSegments) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact payment state store: " + directory, e);
+        }
+        if (stateLog.segmentCount() > maxSegments - 1) {
+            full = true;
+            log.error("Payment state store still full after compaction: directory={}, segments={}, max-segments={}, "
+                + "retention={}", directory, stateLog.segmentCount(), maxSegments, retention);
+            throw new IllegalStateException("Payment state store is full: directory=" + directory
+                + ", max-segments=" + maxSegments);
+        }
+    }
+
+    private void compact() throws IOException {
+        long start = System.nanoTime();
+        long before = records;
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        Path target = generationPath(generation + 1);
+        Path staging = target.resolveSibling(target.getFileName() + STAGING_SUFFIX);
+        delete(staging);
+        try (var compacted = new PaymentStateLog(staging, segmentSize);
+             var merchants = new OffHeapIndex(1024)) {
+            compacted.recover(address -> { });
+            stateLog.forEach(address -> {
+                if (stateLog.updatedAt(address) < cutoff || !isLatest(address)) {
+                    return;
+                }
+                PaymentState state = stateLog.read(address);
+                byte[] merchantId = PaymentStateLog.utf8(state.merchantId());
+                long merchantHash = PaymentStateLog.hash(merchantId);
+                long prevMerchant = merchants.get(merchantHash, candidate -> compacted.merchantIdEquals(candidate, merchantId));
+                long copied = compacted.append(state, prevMerchant == OffHeapIndex.MISSING ? PaymentStateLog.NONE : prevMerchant);
+                merchants.put(merchantHash, copied, previous -> compacted.merchantIdEquals(previous, merchantId));
+            });
+        }
+        Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        closeGeneration();
+        Path previous = generationPath(generation);
+        generation++;
+        open();
+        delete(previous);
+        metrics.increment("poc.payment.store.compactions");
+        log.info("Payment state store compacted: directory={}, generation={}, records={} -> {}, segments={}, took={}ms",
+            directory, generation, before, records, stateLog.segmentCount(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void open() throws IOException {
+        stateLog = new PaymentStateLog(generationPath(generation), segmentSize);
+        paymentIndex = new OffHeapIndex(initialCapacity);
+        merchantIndex = new OffHeapIndex(1024);
+        records = 0;
+        stateLog.recover(this::index);
+    }
+
+    private void closeGeneration() throws IOException {
+        try {
+            stateLog.close();
+        } finally {
+            paymentIndex.close();
+            merchantIndex.close();
+        }
+    }
+
+    private long latestGeneration() throws IOException {
+        Files.createDirectories(directory);
+        long latest = -1;
+        List<Path> legacySegments = new ArrayList<>();
+        List<Path> generations = new ArrayList<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            for (Path path : listing.toList()) {
+                String name = path.getFileName().toString();
+                if (PaymentStateLog.isSegment(path)) {
+                    legacySegments.add(path);
+                } else if (name.startsWith(GENERATION_PREFIX) && name.endsWith(STAGING_SUFFIX)) {
+                    delete(path);
+                } else if (name.startsWith(GENERATION_PREFIX)) {
+                    generations.add(path);
+                    latest = Math.max(latest, Long.parseLong(name.substring(GENERATION_PREFIX.length())));
+                }
+            }
+        }
+        if (latest < 0) {
+            latest = 0;
+            Files.createDirectories(generationPath(latest));
+            for (Path segment : legacySegments) {
+                Files.move(segment, generationPath(latest).resolve(segment.getFileName()));
+            }
+        }
+        for (Path path : generations) {
+            if (!path.equals(generationPath(latest))) {
+                delete(path);
+            }
+        }
+        return latest;
+    }
+
+    private Path generationPath(long generation) {
+        return directory.resolve(GENERATION_PREFIX + String.format("%06d", generation));
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(path);
+    }
+
+    private void index(long address) {
+        long paymentHash = stateLog.paymentIdHash(address);
+        paymentIndex.put(paymentHash, address, previous -> stateLog.samePaymentId(previous, address));
+        merchantIndex.put(stateLog.merchantIdHash(address), address, previous -> stateLog.sameMerchantId(previous, address));
+        records++;
+    }
+
+    private boolean isLatest(long address) {
+        return paymentIndex.get(stateLog.paymentIdHash(address), candidate -> stateLog.samePaymentId(candidate, address)) == address;
+    }
+
+    private long sizeBytes() {
+        lock.readLock().lock();
+        try {
+            return stateLog.sizeBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void flush() {
+        lock.readLock().lock();
+        try {
+            stateLog.force();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush payment state store: error={}", e.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.vikthorvergara.pulsar.missioncritical.transaction;
+
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.transaction.Transaction;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public final class PaymentTransaction {
+
+    private static final ScopedValue<PaymentTransaction> CURRENT = ScopedValue.newInstance();
+
+    private final Transaction transaction;
+    private final PaymentTransactionBatcher batcher;
+    private final long openedNanos = System.nanoTime();
+    private final List<CompletableFuture<?>> operations = new ArrayList<>();
+    private final List<Runnable> commitActions = new ArrayList<>();
+    private final List<Runnable> completionActions = new ArrayList<>();
+    private final List<Consumer<?>> consumers = new ArrayList<>();
+
+    int joined;
+    int active;
+    boolean sealed;
+    boolean rollbackOnly;
+
+    PaymentTransaction(Transaction transaction, PaymentTransactionBatcher batcher) {
+        this.transaction = transaction;
+        this.batcher = batcher;
+    }
+
+    public static PaymentTransaction current() {
+        return CURRENT.isBound() ? CURRENT.get() : null;
+    }
+
+    public void run(Runnable action) {
+        ScopedValue.where(CURRENT, this).run(action);
+    }
+
+    public CompletableFuture<MessageId> send(String topic, Object value, String key, Duration delay) {
+        return track(batcher.send(transaction, topic, value, key, delay));
+    }
+
+    public void acknowledge(Consumer<?> consumer, MessageId messageId) {
+        synchronized (this) {
+            if (!consumers.contains(consumer)) {
+                consumers.add(consumer);
+            }
+        }
+        track(consumer.acknowledgeAsync(messageId, transaction));
+    }
+
+    public synchronized void onCommit(Runnable action) {
+        commitActions.add(action);
+    }
+
+    public synchronized void onComplete(Runnable action) {
+        completionActions.add(action);
+    }
+
+    long openedNanos() {
+        return openedNanos;
+    }
+
+    CompletableFuture<Void> commit() {
+        CompletableFuture<?>[] pending;
+        synchronized (this) {
+            pending = operations.toArray(CompletableFuture[]::new);
+        }
+        return CompletableFuture.allOf(pending).thenCompose(ignored -> transaction.commit());
+    }
+
+    CompletableFuture<Void> abort() {
+        return transaction.abort();
+    }
+
+    synchronized List<Runnable> commitActions() {
+        return List.copyOf(commitActions);
+    }
+
+    synchronized List<Runnable> completionActions() {
+        return List.copyOf(completionActions);
+    }
+
+    synchronized List<Consumer<?>> consumers() {
+        return List.copyOf(consumers);
+    }
+
+    private synchronized <T> CompletableFuture<T> track(CompletableFuture<T> operation) {
+        operations.add(operation);
+        return operation;
+    }
+}
@@ -0,0 +1,219 @@
+package com.vikthorvergara.pulsar.missioncritical.transaction;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import jakarta.annotation.PreDestroy;
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.TypedMessageBuilder;
+import org.apache.pulsar.client.api.transaction.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.pulsar.core.ProducerBuilderCustomizer;
+import org.springframework.pulsar.core.PulsarProducerFactory;
+import org.springframework.pulsar.core.SchemaResolver;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "poc.payment.processor.mode", havingValue = "transactional")
+public class PaymentTransactionBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentTransactionBatcher.class);
+
+    private static final ProducerBuilderCustomizer<Object> TRANSACTIONAL_PRODUCER =
+        builder -> builder.sendTimeout(0, TimeUnit.SECONDS);
+
+    private final PulsarClient pulsarClient;
+    private final PulsarProducerFactory producerFactory;
+    private final SchemaResolver schemaResolver;
+    private final Map<Class<?>, Schema<Object>> schemas = new ConcurrentHashMap<>();
+    private final int maxMessages;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final EventMetrics metrics;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService timer =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("payment-txn-timer").daemon(true).factory());
+    private PaymentTransaction current;
+
+    public PaymentTransactionBatcher(PulsarClient pulsarClient, PulsarProducerFactory producerFactory,
+                                     SchemaResolver schemaResolver, EventMetrics metrics,
+                                     @Value("${poc.payment.transactions.max-messages:32}") int maxMessages,
+                                     @Value("${poc.payment.transactions.max-delay:50ms}") Duration maxDelay,
+                                     @Value("${poc.payment.transactions.timeout:30s}") Duration timeout,
+                                     @Value("${poc.pulsar.transactions.enabled:false}") boolean transactionsEnabled) {
+        if (!transactionsEnabled) {
+            throw new IllegalStateException("poc.payment.processor.mode=transactional requires "
+                + "poc.pulsar.transactions.enabled=true");
+        }
+        this.pulsarClient = pulsarClient;
+        this.producerFactory = producerFactory;
+        this.schemaResolver = schemaResolver;
+        this.maxMessages = maxMessages;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+        this.metrics = metrics;
+    }
+
+    public PaymentTransaction join() throws PulsarClientException {
+        lock.lock();
+        try {
+            if (current == null) {
+                current = open();
+            }
+            PaymentTransaction transaction = current;
+            transaction.joined++;
+            transaction.active++;
+            if (transaction.joined >= maxMessages) {
+                seal(transaction);
+            }
+            return transaction;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void fail(PaymentTransaction transaction) {
+        lock.lock();
+        try {
+            transaction.rollbackOnly = true;
+            if (!transaction.sealed) {
+                seal(transaction);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(PaymentTransaction transaction) {
+        lock.lock();
+        try {
+            transaction.active--;
+            if (transaction.sealed && transaction.active == 0) {
+                commit(transaction);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        timer.shutdownNow();
+        lock.lock();
+        try {
+            if (current != null) {
+                seal(current);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    CompletableFuture<MessageId> send(Transaction transaction, String topic, Object value, String key,
+                                      Duration delay) {
+        Schema<Object> schema = schemas.computeIfAbsent(value.getClass(),
+            type -> schemaResolver.<Object>resolveSchema(type).orElseThrow());
+        Producer<Object> producer;
+        try {
+            producer = producerFactory.createProducer(schema, topic, TRANSACTIONAL_PRODUCER);
+        } catch (PulsarClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        TypedMessageBuilder<Object> message = producer.newMessage(transaction).key(key).value(value);
+        if (!delay.isZero()) {
+            message.deliverAfter(delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        CompletableFuture<MessageId> sent = message.sendAsync();
+        sent.whenComplete((messageId, e) -> producer.closeAsync());
+        return sent;
+    }
+
+    private PaymentTransaction open() throws PulsarClientException {
+        Transaction transaction;
+        try {
+            transaction = pulsarClient.newTransaction()
+                .withTransactionTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .build()
+                .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PulsarClientException(e);
+        } catch (ExecutionException e) {
+            throw PulsarClientException.unwrap(e.getCause());
+        }
+        var opened = new PaymentTransaction(transaction, this);
+        timer.schedule(() -> expire(opened), maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+        return opened;
+    }
+
+    private void expire(PaymentTransaction transaction) {
+        lock.lock();
+        try {
+            if (!transaction.sealed) {
+                seal(transaction);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void seal(PaymentTransaction transaction) {
+        transaction.sealed = true;
+        if (current == transaction) {
+            current = null;
+        }
+        if (transaction.active == 0) {
+            commit(transaction);
+        }
+    }
+
+    private void commit(PaymentTransaction transaction) {
+        int size = transaction.joined;
+        if (transaction.rollbackOnly) {
+            log.warn("Payment transaction has a failed member, aborting: messages={}", size);
+            abort(transaction);
+            return;
+        }
+        transaction.commit().whenComplete((ignored, e) -> {
+            if (e == null) {
+                transaction.commitActions().forEach(Runnable::run);
+                transaction.completionActions().forEach(Runnable::run);
+                metrics.increment("poc.payment.transactions", "outcome", "committed");
+                metrics.recordHandler("payment-transaction", transaction.openedNanos(), "outcome", "committed");
+                log.debug("Payment transaction committed: messages={}", size);
+                return;
+            }
+            log.warn("Payment transaction failed, aborting: messages={}, error={}", size, e.getMessage());
+            abort(transaction);
+        });
+    }
+
+    private void abort(PaymentTransaction transaction) {
+        metrics.increment("poc.payment.transactions", "outcome", "aborted");
+        metrics.recordHandler("payment-transaction", transaction.openedNanos(), "outcome", "aborted");
+        transaction.abort().whenComplete((aborted, abortError) -> {
+            if (abortError != null) {
+                log.error("Payment transaction abort failed: error={}", abortError.getMessage());
+            }
+            transaction.completionActions().forEach(Runnable::run);
+            transaction.consumers().forEach(Consumer::redeliverUnacknowledgedMessages);
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.vikthorvergara.pulsar.missioncritical.validation;
+
+import com.vikthorvergara.pulsar.missioncritical.model.CurrencyUnit;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(1)
+public class AmountLimitRule implements ValidationRule {
+
+    private static final Rejection INVALID_AMOUNT = new Rejection("amount-limit", "Invalid amount");
+    private static final Rejection UNKNOWN_CURRENCY = new Rejection("amount-limit", "Unknown currency");
+    private static final Rejection OVER_LIMIT = new Rejection("amount-limit", "Amount exceeds limit");
+
+    private final long maxAmount;
+
+    public AmountLimitRule(@Value("${poc.payment.validation.max-amount:10000}") long maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    @Override
+    public Rejection check(Payment payment) {
+        long amount = payment.getAmountMinorUnits();
+        if (amount <= 0) {
+            return INVALID_AMOUNT;
+        }
+        CurrencyUnit unit = CurrencyUnit.of(payment.getCurrency());
+        if (unit == null) {
+            return UNKNOWN_CURRENCY;
+        }
+        if (amount > maxAmount * unit.minorPerMajor()) {
+            return OVER_LIMIT;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.vikthorvergara.pulsar.missioncritical.validation;
+
+import com.vikthorvergara.pulsar.common.support.SimulatedLatency;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@Order(10)
+public class ComplianceCheckRule implements ValidationRule {
+
+    private static final Rejection BLOCKED = new Rejection("compliance", "Merchant blocked");
+
+    private final Set<String> blockedMerchants;
+    private final SimulatedLatency latency;
+
+    public ComplianceCheckRule(@Value("${poc.payment.validation.blocked-merchants:}") Set<String> blockedMerchants,
+                               SimulatedLatency latency) {
+        this.blockedMerchants = Set.copyOf(blockedMerchants);
+        this.latency = latency;
+    }
+
+    @Override
+    public Rejection check(Payment payment) throws InterruptedException {
+        latency.pause(50);
+        return blockedMerchants.contains(payment.getMerchantId()) ? BLOCKED : null;
+    }
+
+    @Override
+    public boolean inline() {
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.vikthorvergara.pulsar.missioncritical.validation;
+
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(2)
+public class PartiesRule implements ValidationRule {
+
+    private static final Rejection MISSING_PARTY = new Rejection("parties", "Invalid merchant or customer");
+
+    @Override
+    public Rejection check(Payment payment) {
+        if (payment.getMerchantId() == null || payment.getCustomerId() == null) {
+            return MISSING_PARTY;
+        }
+        return null;
+    }
+}
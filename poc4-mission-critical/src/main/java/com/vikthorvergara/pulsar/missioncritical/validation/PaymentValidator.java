@@ -0,0 +1,32 @@
+package com.vikthorvergara.pulsar.missioncritical.validation;
+
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class PaymentValidator {
+
+    private final ValidationRule[] inlineRules;
+    private final List<ValidationRule> forkedRules;
+
+    public PaymentValidator(List<ValidationRule> rules) {
+        this.inlineRules = rules.stream().filter(ValidationRule::inline).toArray(ValidationRule[]::new);
+        this.forkedRules = rules.stream().filter(rule -> !rule.inline()).toList();
+    }
+
+    public Rejection validateInline(Payment payment) throws InterruptedException {
+        for (ValidationRule rule : inlineRules) {
+            Rejection rejection = rule.check(payment);
+            if (rejection != null) {
+                return rejection;
+            }
+        }
+        return null;
+    }
+
+    public List<ValidationRule> forkedRules() {
+        return forkedRules;
+    }
+}
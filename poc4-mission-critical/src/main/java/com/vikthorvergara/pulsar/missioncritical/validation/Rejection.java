@@ -0,0 +1,4 @@
+package com.vikthorvergara.pulsar.missioncritical.validation;
+
+public record Rejection(String rule, String reason) {
+}
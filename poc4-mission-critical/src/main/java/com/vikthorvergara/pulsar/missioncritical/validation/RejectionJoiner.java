@@ -0,0 +1,33 @@
+package com.vikthorvergara.pulsar.missioncritical.validation;
+
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class RejectionJoiner implements Joiner<Object, Rejection> {
+
+    private final AtomicReference<Rejection> rejection = new AtomicReference<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    @Override
+    public boolean onComplete(Subtask<? extends Object> subtask) {
+        return switch (subtask.state()) {
+            case SUCCESS -> subtask.get() instanceof Rejection rejected && rejection.compareAndSet(null, rejected);
+            case FAILED -> failure.compareAndSet(null, subtask.exception());
+            case UNAVAILABLE -> false;
+        };
+    }
+
+    @Override
+    public Rejection result() throws Throwable {
+        Rejection rejected = rejection.get();
+        if (rejected != null) {
+            return rejected;
+        }
+        Throwable failed = failure.get();
+        if (failed != null) {
+            throw failed;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.vikthorvergara.pulsar.missioncritical.validation;
+
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+
+public interface ValidationRule {
+
+    Rejection check(Payment payment) throws InterruptedException;
+
+    default boolean inline() {
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.vikthorvergara.pulsar.missioncritical.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBackoffTest {
+
+    @Test
+    void growsByTheMultiplierWithoutJitter() {
+        var backoff = new RetryBackoff(Duration.ofMillis(100), 2.0, Duration.ofSeconds(10), 0);
+
+        assertThat(backoff.delayFor(1)).isEqualTo(Duration.ofMillis(100));
+        assertThat(backoff.delayFor(2)).isEqualTo(Duration.ofMillis(200));
+        assertThat(backoff.delayFor(3)).isEqualTo(Duration.ofMillis(400));
+    }
+
+    @Test
+    void capsAtTheMaximumDelay() {
+        var backoff = new RetryBackoff(Duration.ofMillis(100), 2.0, Duration.ofSeconds(1), 0);
+
+        assertThat(backoff.delayFor(10)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void acceptsAZeroInitialDelay() {
+        var backoff = new RetryBackoff(Duration.ZERO, 2.0, Duration.ofSeconds(1), 0.2);
+
+        assertThat(backoff.delayFor(3)).isZero();
+    }
+
+    @Test
+    void keepsJitteredDelaysWithinTheSpread() {
+        var backoff = new RetryBackoff(Duration.ofMillis(100), 2.0, Duration.ofSeconds(1), 0.2);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(backoff.delayFor(2).toMillis()).isBetween(160L, 240L);
+            assertThat(backoff.delayFor(10).toMillis()).isBetween(800L, 1200L);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.vikthorvergara.pulsar.missioncritical.store;
+
+import com.vikthorvergara.pulsar.common.metrics.EventMetrics;
+import com.vikthorvergara.pulsar.missioncritical.model.Money;
+import com.vikthorvergara.pulsar.missioncritical.model.Payment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentStateStoreTest {
+
+    private static final String[] STATUSES = {"PROCESSING", "PENDING", "COMPLETED"};
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PaymentStateStore store;
+
+    @AfterEach
+    void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private PaymentStateStore open(int maxSegments) {
+        store = new PaymentStateStore(directory.toString(), DataSize.ofBytes(4096), maxSegments,
+            Duration.ofDays(7), 64, Duration.ofHours(1), new EventMetrics(registry));
+        return store;
+    }
+
+    private static Payment payment(int id, String status) {
+        var payment = new Payment("RETAIL-001", "CUST-0001", Money.ofMinor(15050, "USD"), "order");
+        payment.setId("payment-" + id);
+        payment.setStatus(status);
+        return payment;
+    }
+
+    @Test
+    void compactsSupersededRecordsOnceTheLogExceedsMaxSegments() throws IOException {
+        open(3);
+
+        for (int round = 0; round < 30; round++) {
+            for (int id = 0; id < 10; id++) {
+                store.record(payment(id, STATUSES[round % STATUSES.length]));
+            }
+        }
+
+        assertThat(registry.counter("poc.payment.store.compactions").count()).isPositive();
+        assertThat(store.paymentCount()).isEqualTo(10);
+        assertThat(store.find("payment-3")).hasValueSatisfying(state -> assertThat(state.status()).isEqualTo("COMPLETED"));
+        assertThat(store.findByMerchant("RETAIL-001", 100)).hasSize(10);
+        assertThat(segmentFiles()).hasSizeLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void recoversTheCompactedGenerationAfterRestart() throws IOException {
+        open(3);
+        for (int round = 0; round < 30; round++) {
+            for (int id = 0; id < 10; id++) {
+                store.record(payment(id, STATUSES[round % STATUSES.length]));
+            }
+        }
+        store.close();
+
+        open(3);
+
+        assertThat(store.paymentCount()).isEqualTo(10);
+        assertThat(store.find("payment-9")).hasValueSatisfying(state -> assertThat(state.status()).isEqualTo("COMPLETED"));
+        assertThat(store.findByMerchant("RETAIL-001", 100)).hasSize(10);
+        try (Stream<Path> generations = Files.list(directory)) {
+            assertThat(generations).hasSize(1);
+        }
+    }
+
+    @Test
+    void refusesWritesWhenRetainedPaymentsFillMaxSegments() {
+        open(2);
+
+        assertThatThrownBy(() -> {
+            for (int id = 0; id < 1_000; id++) {
+                store.record(payment(id, "COMPLETED"));
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessageContaining("full");
+        assertThatThrownBy(() -> store.record(payment(1_000, "COMPLETED"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(PaymentStateLog::isSegment).toList();
+        }
+    }
+}